@@ -0,0 +1,123 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prgrms.vouchermanagement.customer.CustomerResponse;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+import com.prgrms.vouchermanagement.wallet.WalletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.oxm.xstream.XStreamMarshaller;
+
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10,000 건의 응답 목록 하나를 쓰는 시간을 측정한다.
+ * reflection 기반 Jackson(@JsonSerialize 무시) 과 XStream 을 기준으로, 직접 작성한 serializer 와 StAX converter 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final int ROW_COUNT = 10_000;
+
+    @Param({"voucher", "customer", "wallet"})
+    String responseType;
+
+    ObjectMapper reflectionObjectMapper;
+    ObjectMapper objectMapper;
+    XStreamMarshaller xStreamMarshaller;
+    ResponseXmlHttpMessageConverter xmlConverter;
+    List<Object> responses;
+    ByteArrayOutputStream outputStream;
+    HttpOutputMessage outputMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        reflectionObjectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .build();
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        xStreamMarshaller = new XStreamMarshaller();
+        xStreamMarshaller.afterPropertiesSet();
+        xmlConverter = new ResponseXmlHttpMessageConverter();
+
+        LocalDateTime createdAt = LocalDateTime.of(2022, 5, 1, 10, 0, 0, 123_000_000);
+        responses = new ArrayList<>(ROW_COUNT);
+        for (long i = 1; i <= ROW_COUNT; i++) {
+            responses.add(createResponse(i, createdAt.plusSeconds(i)));
+        }
+
+        outputStream = new ByteArrayOutputStream(ROW_COUNT * 256);
+        HttpHeaders headers = new HttpHeaders();
+        outputMessage = new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return outputStream;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    @Benchmark
+    public int reflectionJson() throws IOException {
+        outputStream.reset();
+        reflectionObjectMapper.writeValue(outputStream, responses);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int streamingJson() throws IOException {
+        outputStream.reset();
+        objectMapper.writeValue(outputStream, responses);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int xStreamXml() throws IOException {
+        outputStream.reset();
+        xStreamMarshaller.marshal(responses, new StreamResult(outputStream));
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int staxXml() throws IOException {
+        outputStream.reset();
+        xmlConverter.write(responses, null, MediaType.APPLICATION_XML, outputMessage);
+        return outputStream.size();
+    }
+
+    private Object createResponse(long id, LocalDateTime createdAt) {
+        switch (responseType) {
+            case "customer":
+                return new CustomerResponse(id, "customer" + id, "customer" + id + "@gmail.com", createdAt);
+            case "wallet":
+                return new WalletResponse(id, id * 2, id * 3, createdAt);
+            default:
+                return new VoucherResponse(id, id % 10_000, VoucherType.FIXED_DISCOUNT, createdAt);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.prgrms.vouchermanagement.customer;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * black list 파일 크기별 인덱스 적재 시간과 membership 확인 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlackListIndexBenchmark {
+
+    @Param({"100000", "2000000"})
+    int entryCount;
+
+    Path blackListPath;
+    BlackListIndex blackListIndex;
+    int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        blackListPath = Files.createTempFile("customer_black_list", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(blackListPath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < entryCount; i++) {
+                writer.write("customer" + i + ",customer" + i + "@gmail.com\n");
+            }
+        }
+        blackListIndex = BlackListIndex.load(blackListPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(blackListPath);
+    }
+
+    @Benchmark
+    public int load() throws IOException {
+        return BlackListIndex.load(blackListPath).size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean isBlackListed() {
+        probe = (probe + 7919) % (entryCount * 2);
+        return blackListIndex.containsEmail("customer" + probe + "@gmail.com");
+    }
+}
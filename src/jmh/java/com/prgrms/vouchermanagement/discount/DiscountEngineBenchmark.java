@@ -0,0 +1,66 @@
+package com.prgrms.vouchermanagement.discount;
+
+import com.prgrms.vouchermanagement.util.DiscountProperties;
+import com.prgrms.vouchermanagement.util.VoucherProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import com.prgrms.vouchermanagement.voucher.repository.MemoryVoucherRepository;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * wallet 이 모두 캐시된 상태에서 batch 크기별 가격 계산 처리량을 측정한다.
+ * 결과의 ops/s 에 batchSize 를 곱하면 초당 계산한 가격 수가 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DiscountEngineBenchmark {
+
+    private static final int CUSTOMER_COUNT = 10_000;
+
+    @Param({"1000", "100000"})
+    int batchSize;
+
+    DiscountEngine discountEngine;
+    long[] customerIds;
+    long[] prices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        VoucherService voucherService = new VoucherService(new MemoryVoucherRepository(), new VoucherProperties(1000, 100, Duration.ofMinutes(1)), event -> {}) {
+            @Override
+            public Map<Long, List<Voucher>> findVoucherByCustomersFromPrimary(Collection<Long> customerIds) {
+                return customerIds.stream().collect(Collectors.toMap(Function.identity(), customerId -> List.of(
+                        VoucherType.FIXED_DISCOUNT.constructor(customerId * 2, customerId % 5000, createdAt),
+                        VoucherType.PERCENT_DISCOUNT.constructor(customerId * 2 + 1, customerId % 50, createdAt))));
+            }
+        };
+        discountEngine = new DiscountEngine(voucherService, new DiscountProperties(batchSize, 4096, CUSTOMER_COUNT, Duration.ofHours(1)));
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        customerIds = new long[batchSize];
+        prices = new long[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            customerIds[i] = random.nextLong(1, CUSTOMER_COUNT + 1);
+            prices[i] = random.nextLong(1_000, 100_000);
+        }
+        discountEngine.evaluate(customerIds, prices);
+    }
+
+    @Benchmark
+    public DiscountEvaluation evaluate() {
+        return discountEngine.evaluate(customerIds, prices);
+    }
+}
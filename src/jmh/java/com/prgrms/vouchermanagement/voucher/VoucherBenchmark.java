@@ -0,0 +1,63 @@
+package com.prgrms.vouchermanagement.voucher;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VoucherType.constructor 와 Voucher.discount 의 비용을 catalog 크기별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VoucherBenchmark {
+
+    @Param({"1000", "100000"})
+    int catalogSize;
+
+    @Param({"FIXED_DISCOUNT", "PERCENT_DISCOUNT"})
+    VoucherType voucherType;
+
+    Voucher[] vouchers;
+    long[] amounts;
+    LocalDateTime createdAt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        createdAt = LocalDateTime.now();
+        vouchers = new Voucher[catalogSize];
+        amounts = new long[catalogSize];
+
+        for (int i = 0; i < catalogSize; i++) {
+            amounts[i] = voucherType == VoucherType.FIXED_DISCOUNT ? (i % 1000) + 1 : (i % 100) + 1;
+            vouchers[i] = voucherType.constructor((long) i + 1, amounts[i], createdAt);
+        }
+    }
+
+    @Benchmark
+    public Voucher constructor() {
+        int index = ThreadLocalRandom.current().nextInt(catalogSize);
+        return voucherType.constructor((long) index + 1, amounts[index], createdAt);
+    }
+
+    @Benchmark
+    public long discount() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return vouchers[random.nextInt(catalogSize)].discount(random.nextLong(1_000, 100_000));
+    }
+
+    /**
+     * catalog 전체에 같은 가격을 적용한다. 결과는 Blackhole 로 넘겨 JIT 가 계산을 제거하지 못하게 한다.
+     */
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void discountSequential(Blackhole blackhole) {
+        int start = ThreadLocalRandom.current().nextInt(catalogSize);
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(vouchers[(start + i) % catalogSize].discount(10_000L));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.util.FilePathProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * FileVoucherRepository 의 저장(로그 append)과 재시작 시 적재(snapshot 읽기) 비용을 catalog 크기별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileVoucherRepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1000", "100000"})
+    int catalogSize;
+
+    Path loadDirectory;
+    Path storeDirectory;
+    FileVoucherRepository storeRepository;
+    List<Voucher> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        loadDirectory = Files.createTempDirectory("voucher-load");
+        Map<Long, Voucher> store = new TreeMap<>();
+        List<Voucher> vouchers = VoucherCatalogs.create(catalogSize, LocalDateTime.now());
+        for (int i = 0; i < vouchers.size(); i++) {
+            store.put((long) i + 1, vouchers.get(i));
+        }
+        VoucherSnapshot.write(Paths.get(toFilePathProperties(loadDirectory).getVouchersSnapshotPath()), store, catalogSize);
+
+        storeDirectory = Files.createTempDirectory("voucher-store");
+        storeRepository = new FileVoucherRepository(toFilePathProperties(storeDirectory));
+        storeRepository.init();
+        storeRepository.saveAll(vouchers);
+        batch = vouchers.subList(0, Math.min(BATCH_SIZE, vouchers.size()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storeRepository.destroy();
+        deleteRecursively(storeDirectory);
+        deleteRecursively(loadDirectory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Long> store() {
+        return storeRepository.saveAll(batch);
+    }
+
+    @Benchmark
+    public int load() {
+        FileVoucherRepository voucherRepository = new FileVoucherRepository(toFilePathProperties(loadDirectory));
+        voucherRepository.init();
+        try {
+            return voucherRepository.findPage(0L, 1).size();
+        } finally {
+            voucherRepository.destroy();
+        }
+    }
+
+    private static FilePathProperties toFilePathProperties(Path directory) {
+        return new FilePathProperties("vouchers.ser", "customer_black_list.csv", directory.toString(),
+                "sequence.txt", "vouchers.log", "vouchers.snapshot", "vouchers.mmap");
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
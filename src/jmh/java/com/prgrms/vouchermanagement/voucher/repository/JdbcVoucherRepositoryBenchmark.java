@@ -0,0 +1,86 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2 에 대해 JdbcVoucherRepository 의 저장, 조회 비용을 catalog 크기별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdbcVoucherRepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int PERIOD_SECONDS = 100;
+
+    @Param({"1000", "100000"})
+    int catalogSize;
+
+    EmbeddedDatabase dataSource;
+    JdbcVoucherRepository voucherRepository;
+    LocalDateTime baseTime;
+    List<Voucher> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("voucher_schema.sql")
+                .setScriptEncoding("UTF-8")
+                .build();
+        voucherRepository = new JdbcVoucherRepository(new NamedParameterJdbcTemplate(dataSource));
+
+        baseTime = LocalDateTime.now();
+        List<Voucher> vouchers = VoucherCatalogs.create(catalogSize, baseTime);
+        for (int from = 0; from < vouchers.size(); from += 1000) {
+            voucherRepository.saveAll(vouchers.subList(from, Math.min(from + 1000, vouchers.size())));
+        }
+        batch = vouchers.subList(0, Math.min(BATCH_SIZE, vouchers.size()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Benchmark
+    public Long save() {
+        return voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Long> saveAll() {
+        return voucherRepository.saveAll(batch);
+    }
+
+    @Benchmark
+    public Optional<Voucher> findById() {
+        return voucherRepository.findById(ThreadLocalRandom.current().nextLong(1, catalogSize + 1));
+    }
+
+    @Benchmark
+    public List<Voucher> findByCondition() {
+        LocalDateTime from = baseTime.plusSeconds(ThreadLocalRandom.current().nextInt(catalogSize));
+        return voucherRepository.findByCondition(
+                VoucherSearchCondition.of(null, VoucherType.PERCENT_DISCOUNT, from, from.plusSeconds(PERIOD_SECONDS), null));
+    }
+
+    @Benchmark
+    public List<Voucher> findPage() {
+        return voucherRepository.findPage(ThreadLocalRandom.current().nextLong(catalogSize), 20);
+    }
+}
@@ -0,0 +1,62 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * catalog 크기별 MemoryVoucherRepository 의 저장, 조회 비용을 측정한다.
+ * 스레드 수는 -PjmhThreads 로 지정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoryVoucherRepositoryBenchmark {
+
+    private static final int PERIOD_SECONDS = 100;
+
+    @Param({"1000", "100000"})
+    int catalogSize;
+
+    MemoryVoucherRepository voucherRepository;
+    LocalDateTime baseTime;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        voucherRepository = new MemoryVoucherRepository();
+        baseTime = LocalDateTime.now();
+        voucherRepository.saveAll(VoucherCatalogs.create(catalogSize, baseTime));
+    }
+
+    @Benchmark
+    public Long save() {
+        return voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public Optional<Voucher> findById() {
+        return voucherRepository.findById(ThreadLocalRandom.current().nextLong(1, catalogSize + 1));
+    }
+
+    @Benchmark
+    public List<Voucher> findByType() {
+        return voucherRepository.findByType(VoucherType.PERCENT_DISCOUNT);
+    }
+
+    @Benchmark
+    public List<Voucher> findByPeriod() {
+        LocalDateTime from = baseTime.plusSeconds(ThreadLocalRandom.current().nextInt(catalogSize));
+        return voucherRepository.findByPeriod(from, from.plusSeconds(PERIOD_SECONDS));
+    }
+
+    @Benchmark
+    public List<Voucher> findPage() {
+        return voucherRepository.findPage(ThreadLocalRandom.current().nextLong(catalogSize), 20);
+    }
+}
@@ -0,0 +1,29 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * benchmark 에서 사용할 voucher 목록을 만든다.
+ * type 은 번갈아 가며, createdAt 은 baseTime 부터 1초 간격으로 부여한다.
+ */
+final class VoucherCatalogs {
+
+    private VoucherCatalogs() {
+    }
+
+    static List<Voucher> create(int size, LocalDateTime baseTime) {
+        List<Voucher> vouchers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = baseTime.plusSeconds(i);
+            vouchers.add(i % 2 == 0
+                    ? VoucherType.FIXED_DISCOUNT.constructor((i % 1000) + 1, createdAt)
+                    : VoucherType.PERCENT_DISCOUNT.constructor((i % 100) + 1, createdAt));
+        }
+        return vouchers;
+    }
+}
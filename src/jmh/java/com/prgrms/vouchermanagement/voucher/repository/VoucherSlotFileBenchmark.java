@@ -0,0 +1,49 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VoucherSlotFile 에서 voucherId 로 한 건씩 조회하는 비용을 catalog 크기별로 측정한다.
+ * -prof gc 로 실행하면 gc.alloc.rate.norm 이 조회 한 건에서 할당한 byte 수이며, 반환하는 Voucher 와 createdAt 외에는 할당하지 않아야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VoucherSlotFileBenchmark {
+
+    @Param({"1000", "100000"})
+    int catalogSize;
+
+    Path slotPath;
+    VoucherSlotFile slotFile;
+    long voucherId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        slotPath = Files.createTempFile("voucher-slot", ".mmap");
+        Files.delete(slotPath);
+        slotFile = new VoucherSlotFile(slotPath);
+        for (Voucher voucher : VoucherCatalogs.create(catalogSize, LocalDateTime.now())) {
+            slotFile.append(voucher);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        slotFile.close();
+        Files.delete(slotPath);
+    }
+
+    @Benchmark
+    public Voucher read() {
+        voucherId = voucherId % catalogSize + 1;
+        return slotFile.read(voucherId);
+    }
+}
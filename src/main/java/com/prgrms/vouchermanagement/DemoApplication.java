@@ -1,14 +1,18 @@
 package com.prgrms.vouchermanagement;
 
+import com.prgrms.vouchermanagement.util.AsyncProperties;
 import com.prgrms.vouchermanagement.util.DatabaseProperties;
+import com.prgrms.vouchermanagement.util.DiscountProperties;
 import com.prgrms.vouchermanagement.util.FilePathProperties;
+import com.prgrms.vouchermanagement.util.MetricsProperties;
+import com.prgrms.vouchermanagement.util.VoucherProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
-@EnableConfigurationProperties({DatabaseProperties.class, FilePathProperties.class})
+@EnableConfigurationProperties({DatabaseProperties.class, FilePathProperties.class, VoucherProperties.class, MetricsProperties.class, AsyncProperties.class, DiscountProperties.class})
 public class DemoApplication {
 
 	public static void main(String[] args) {
@@ -10,6 +10,7 @@ import com.prgrms.vouchermanagement.io.Output;
 import com.prgrms.vouchermanagement.voucher.Voucher;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import com.prgrms.vouchermanagement.wallet.BulkWalletResult;
 import com.prgrms.vouchermanagement.wallet.VoucherWalletService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
@@ -128,6 +129,9 @@ public class VoucherManagement {
             case FIND_CUSTOMER:
                 findCustomerByVoucher();
                 break;
+            case ADD_VOUCHER_BULK:
+                addVoucherToCustomerWallets();
+                break;
             default:
                 printCommandError();
         }
@@ -220,6 +224,23 @@ public class VoucherManagement {
         }
     }
 
+    private void addVoucherToCustomerWallets() {
+        try {
+            Long voucherId = input.inputId("voucherId");
+            List<Long> customerIds = input.inputIds("customerIds");
+
+            BulkWalletResult result = walletService.addVoucherToWallets(voucherId, customerIds);
+            output.printMessage(MessageFormat.format("{0} is Saved to {1} wallets", voucherId, result.getIssuedCount()));
+            output.printList(result.getFailures());
+        } catch (InputMismatchException e) {
+            output.printMessage(INPUT_ERROR);
+        } catch (IllegalArgumentException e) {
+            output.printMessage("This voucher is not registered");
+        } catch (DataAccessException e) {
+            output.printMessage(DB_ERROR_MESSAGE);
+        }
+    }
+
     private void showBlackList() {
         List<Customer> blackList = blackListRepository.findAll();
 
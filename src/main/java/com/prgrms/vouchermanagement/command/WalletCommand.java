@@ -3,7 +3,7 @@ package com.prgrms.vouchermanagement.command;
 import java.util.Arrays;
 
 public enum WalletCommand {
-    ADD_VOUCHER(1), FIND_VOUCHERS(2), REMOVE_VOUCHER(3), FIND_CUSTOMER(4);
+    ADD_VOUCHER(1), FIND_VOUCHERS(2), REMOVE_VOUCHER(3), FIND_CUSTOMER(4), ADD_VOUCHER_BULK(5);
 
     private final int order;
 
@@ -0,0 +1,42 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import com.prgrms.vouchermanagement.util.AsyncProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * REST API 의 repository 작업과 voucher export 를 servlet thread 가 아닌 크기가 제한된 executor 에서 실행한다.
+ * 오래 걸리는 export 가 API 요청의 thread 를 차지하지 않도록 executor 를 나누고, 전역 async 설정은 바꾸지 않는다.
+ * 대기열이 가득 차면 TaskRejectedException 이 던져진다.
+ */
+@Configuration
+public class AsyncConfiguration {
+
+    private final AsyncProperties asyncProperties;
+
+    public AsyncConfiguration(AsyncProperties asyncProperties) {
+        this.asyncProperties = asyncProperties;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor voucherApiExecutor() {
+        return createExecutor("voucher-api-", asyncProperties.getPoolSize(), asyncProperties.getQueueCapacity(), asyncProperties.getTimeout().toMillis());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor voucherExportExecutor() {
+        return createExecutor("voucher-export-", asyncProperties.getExportPoolSize(), asyncProperties.getExportQueueCapacity(), asyncProperties.getExportTimeout().toMillis());
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity, long awaitTerminationMillis) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(awaitTerminationMillis);
+        return executor;
+    }
+}
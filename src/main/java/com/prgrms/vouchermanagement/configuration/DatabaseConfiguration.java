@@ -2,33 +2,108 @@ package com.prgrms.vouchermanagement.configuration;
 
 import com.prgrms.vouchermanagement.util.DatabaseProperties;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class DatabaseConfiguration {
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
     private final DatabaseProperties dbConfigProperties;
 
     public DatabaseConfiguration(DatabaseProperties dbConfigProperties) {
         this.dbConfigProperties = dbConfigProperties;
     }
 
+    /**
+     * readOnly 트랜잭션은 replica 로, 그 외는 primary 로 보낸다.
+     * 트랜잭션 시작 시 바로 connection 을 얻으면 readOnly 여부를 알 수 없으므로 실제 사용 시점까지 미룬다.
+     * DataSource 타입의 빈이 routingDataSource 와 두 개이므로, transaction manager 등의 자동 설정이 이 빈을 사용하도록 @Primary 로 지정한다.
+     */
     @Bean
-    public DataSource dataSource() {
-        return DataSourceBuilder.create()
-                .url(dbConfigProperties.getUrl())
-                .username(dbConfigProperties.getUsername())
-                .password(dbConfigProperties.getPassword())
-                .type(HikariDataSource.class) //DataSource 생성에 사용할 구현체 지정
-                .build();
+    @Primary
+    public DataSource dataSource(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new LazyConnectionDataSourceProxy(routingDataSource(meterRegistryProvider));
+    }
+
+    /**
+     * 다른 빈에 DataSource 로 주입되지 않도록 autowireCandidate 를 끄고 dataSource() 에서만 사용한다. 종료 시 두 pool 을 닫는다.
+     */
+    @Bean(autowireCandidate = false)
+    public ReadWriteRoutingDataSource routingDataSource(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        DatabaseProperties.Pool pool = dbConfigProperties.getPool();
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        HikariDataSource primary = createPool(dbConfigProperties.getUrl(), dbConfigProperties.getUsername(),
+                dbConfigProperties.getPassword(), pool.getName(), meterRegistry);
+
+        DatabaseProperties.Replica replica = dbConfigProperties.getReplica();
+        if (replica == null || replica.getUrl() == null) {
+            return new ReadWriteRoutingDataSource(primary, null, Duration.ZERO);
+        }
+
+        HikariDataSource replicaPool = createPool(replica.getUrl(), replica.getUsername(), replica.getPassword(),
+                pool.getName() + "-replica", meterRegistry);
+        return new ReadWriteRoutingDataSource(primary, replicaPool, replica.getRetryInterval());
     }
 
     @Bean
     public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
         return new NamedParameterJdbcTemplate(dataSource);
     }
+
+    /**
+     * MeterRegistry 가 등록된 경우(metrics.enabled=true) pool 의 active, idle, pending connection 수와
+     * connection 획득 대기 시간을 hikaricp.* 로 함께 기록한다.
+     */
+    private HikariDataSource createPool(String url, String username, String password, String poolName, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .url(url)
+                .username(username)
+                .password(password)
+                .type(HikariDataSource.class) //DataSource 생성에 사용할 구현체 지정
+                .build();
+
+        DatabaseProperties.Pool pool = dbConfigProperties.getPool();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(pool.getMaxLifetime().toMillis());
+
+        driverProperties(url, pool).forEach(dataSource::addDataSourceProperty);
+
+        if (meterRegistry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return dataSource;
+    }
+
+    /**
+     * url 의 driver 가 지원하는 DataSource 속성만 반환한다.
+     * MySQL driver 의 PreparedStatement 캐시와 batch 재작성 설정은 다른 driver 에 전달하면 무시되거나 connection 생성이 실패하므로 MySQL url 에만 적용한다.
+     */
+    static Map<String, Object> driverProperties(String url, DatabaseProperties.Pool pool) {
+        if (url == null || !url.startsWith(MYSQL_URL_PREFIX)) {
+            return Map.of();
+        }
+
+        return Map.of(
+                "cachePrepStmts", pool.isCachePrepStmts(),
+                "prepStmtCacheSize", pool.getPrepStmtCacheSize(),
+                "prepStmtCacheSqlLimit", pool.getPrepStmtCacheSqlLimit(),
+                "useServerPrepStmts", pool.isUseServerPrepStmts(),
+                "rewriteBatchedStatements", pool.isRewriteBatchedStatements());
+    }
 }
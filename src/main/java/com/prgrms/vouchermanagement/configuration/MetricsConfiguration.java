@@ -0,0 +1,63 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import com.prgrms.vouchermanagement.metrics.HotPathMetricsAspect;
+import com.prgrms.vouchermanagement.util.MetricsProperties;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+/**
+ * metrics.enabled=true 인 경우에만 등록된다. 비활성화 시에는 측정용 proxy 가 만들어지지 않는다.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+@ConditionalOnProperty(prefix = "metrics", name = "enabled", havingValue = "true")
+public class MetricsConfiguration {
+
+    private final MetricsProperties metricsProperties;
+
+    public MetricsConfiguration(MetricsProperties metricsProperties) {
+        this.metricsProperties = metricsProperties;
+    }
+
+    @Bean
+    public PrometheusMeterRegistry prometheusMeterRegistry() {
+        return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    }
+
+    @Bean
+    public HotPathMetricsAspect hotPathMetricsAspect(PrometheusMeterRegistry meterRegistry) {
+        return new HotPathMetricsAspect(meterRegistry, metricsProperties.getPercentiles());
+    }
+
+    /**
+     * VoucherService 를 여기서 바로 주입받으면 aspect 보다 먼저 생성되어 측정 대상에서 빠지므로,
+     * 모든 singleton 이 만들어진 뒤에 캐시 통계를 등록한다.
+     */
+    @Bean
+    public SmartInitializingSingleton voucherCacheMetricsBinder(PrometheusMeterRegistry meterRegistry,
+                                                               ObjectProvider<VoucherService> voucherServiceProvider) {
+        return () -> voucherServiceProvider.ifAvailable(voucherService -> bindVoucherCache(meterRegistry, voucherService));
+    }
+
+    private void bindVoucherCache(PrometheusMeterRegistry meterRegistry, VoucherService voucherService) {
+        FunctionCounter.builder("vouchermanagement.cache.requests", voucherService, service -> service.getCacheStats().getHitCount())
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("vouchermanagement.cache.requests", voucherService, service -> service.getCacheStats().getMissCount())
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("vouchermanagement.cache.evictions", voucherService, service -> service.getCacheStats().getEvictionCount())
+                .register(meterRegistry);
+        Gauge.builder("vouchermanagement.cache.size", voucherService, service -> service.getCacheStats().getSize())
+                .register(meterRegistry);
+    }
+}
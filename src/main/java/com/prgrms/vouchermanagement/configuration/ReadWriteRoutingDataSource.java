@@ -0,0 +1,85 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * readOnly 트랜잭션의 connection 은 replica 에서, 그 외에는 primary 에서 얻는다.
+ * replica 에서 connection 을 얻지 못하면 primary 로 대신 조회하고, retryInterval 동안은 replica 를 사용하지 않는다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ * replica 의 복제 지연은 감지하지 않는다. 방금 쓴 값을 읽어야 하거나 조회 결과를 캐시에 보관하는 경우에는 readOnly 가 아닌 트랜잭션으로 조회해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryIntervalNanos;
+    private volatile long replicaRetryAt;
+
+    /**
+     * @param replica : null 이면 모든 connection 을 primary 에서 얻는다.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.replicaRetryAt = System.nanoTime();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markReplicaUnavailable(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markReplicaUnavailable(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeIfPossible(replica);
+        closeIfPossible(primary);
+    }
+
+    private boolean useReplica() {
+        return replica != null
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && System.nanoTime() - replicaRetryAt >= 0;
+    }
+
+    private void markReplicaUnavailable(SQLException e) {
+        replicaRetryAt = System.nanoTime() + retryIntervalNanos;
+        log.warn("fail to get replica connection, fallback to primary", e);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable) {
+            ((Closeable) dataSource).close();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import com.prgrms.vouchermanagement.customer.CustomerResponse;
+import com.prgrms.vouchermanagement.util.IsoDateTimes;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+import com.prgrms.vouchermanagement.wallet.WalletResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * VoucherResponse, CustomerResponse, WalletResponse 와 그 Collection, VoucherBatch 를 StAX 로 바로 XML 에 쓰는 응답 전용 converter.
+ * XStream 과 같은 형식(XML 선언 없음, 객체는 클래스의 전체 이름, Collection 은 list 요소, null 인 필드는 생략)으로 쓰므로
+ * 응답은 그대로이고 reflection 과 converter 탐색 비용만 없어진다. 요청 본문과 그 밖의 타입은 XStream converter 가 처리한다.
+ * XStream 보다 빠른지 측정되지 않았으므로 WebConfiguration 에 등록하지 않는다.
+ * 쓰기 전용이므로 canRead 는 항상 false 이고, 직접 read 를 호출하면 HttpMessageNotReadableException 이 던져진다.
+ */
+public class ResponseXmlHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final String LIST_ELEMENT = "list";
+    private static final String VOUCHER_ELEMENT = VoucherResponse.class.getName();
+    private static final String CUSTOMER_ELEMENT = CustomerResponse.class.getName();
+    private static final String WALLET_ELEMENT = WalletResponse.class.getName();
+
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+    public ResponseXmlHttpMessageConverter() {
+        super(MediaType.APPLICATION_XML, MediaType.TEXT_XML);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isResponseType(clazz) || VoucherBatch.class == clazz;
+    }
+
+    /**
+     * Collection 은 선언된 타입의 원소가 응답 타입인 경우에만 쓴다.
+     */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+
+        if (Collection.class.isAssignableFrom(clazz)) {
+            Class<?> elementType = ResolvableType.forType(type == null ? clazz : type).asCollection().resolveGeneric();
+            return elementType != null && isResponseType(elementType);
+        }
+        return supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw notReadable(inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw notReadable(inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        // JDK 의 XMLStreamWriter 는 짧은 write 를 여러 번 호출하므로 BufferedWriter 로 모아서 인코딩한다.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody(), StandardCharsets.UTF_8));
+
+        try {
+            XMLStreamWriter xmlWriter = xmlOutputFactory.createXMLStreamWriter(writer);
+            write(xmlWriter, object, new char[IsoDateTimes.BUFFER_SIZE]);
+            xmlWriter.flush();
+        } catch (XMLStreamException e) {
+            throw new HttpMessageNotWritableException("Could not write XML: " + e.getMessage(), e);
+        }
+        writer.flush();
+    }
+
+    private void write(XMLStreamWriter writer, Object object, char[] buffer) throws XMLStreamException {
+        if (object instanceof VoucherBatch) {
+            writeVoucherBatch(writer, (VoucherBatch) object, buffer);
+            return;
+        }
+
+        if (object instanceof Collection) {
+            writer.writeStartElement(LIST_ELEMENT);
+            for (Object element : (Collection<?>) object) {
+                writeResponse(writer, element, buffer);
+            }
+            writer.writeEndElement();
+            return;
+        }
+
+        writeResponse(writer, object, buffer);
+    }
+
+    private void writeResponse(XMLStreamWriter writer, Object response, char[] buffer) throws XMLStreamException {
+        if (response instanceof VoucherResponse) {
+            writeVoucherResponse(writer, (VoucherResponse) response, buffer);
+        } else if (response instanceof CustomerResponse) {
+            writeCustomerResponse(writer, (CustomerResponse) response, buffer);
+        } else if (response instanceof WalletResponse) {
+            writeWalletResponse(writer, (WalletResponse) response, buffer);
+        } else if (response == null) {
+            writer.writeEmptyElement("null");
+        } else {
+            throw new IllegalArgumentException("unsupported response type : " + response.getClass().getName());
+        }
+    }
+
+    private void writeVoucherResponse(XMLStreamWriter writer, VoucherResponse voucherResponse, char[] buffer) throws XMLStreamException {
+        writer.writeStartElement(VOUCHER_ELEMENT);
+        writeElement(writer, "voucherId", voucherResponse.getVoucherId());
+        writeElement(writer, "amount", voucherResponse.getAmount());
+        if (voucherResponse.getVoucherType() != null) {
+            writeElement(writer, "voucherType", voucherResponse.getVoucherType().name());
+        }
+        writeElement(writer, "createdAt", voucherResponse.getCreatedAt(), buffer);
+        writer.writeEndElement();
+    }
+
+    private void writeCustomerResponse(XMLStreamWriter writer, CustomerResponse customerResponse, char[] buffer) throws XMLStreamException {
+        writer.writeStartElement(CUSTOMER_ELEMENT);
+        writeElement(writer, "customerId", customerResponse.getCustomerId());
+        writeElement(writer, "name", customerResponse.getName());
+        writeElement(writer, "email", customerResponse.getEmail());
+        writeElement(writer, "createdAt", customerResponse.getCreatedAt(), buffer);
+        writer.writeEndElement();
+    }
+
+    private void writeWalletResponse(XMLStreamWriter writer, WalletResponse walletResponse, char[] buffer) throws XMLStreamException {
+        writer.writeStartElement(WALLET_ELEMENT);
+        writeElement(writer, "walletId", walletResponse.getWalletId());
+        writeElement(writer, "voucherId", walletResponse.getVoucherId());
+        writeElement(writer, "customerId", walletResponse.getCustomerId());
+        writeElement(writer, "createdAt", walletResponse.getCreatedAt(), buffer);
+        writer.writeEndElement();
+    }
+
+    /**
+     * VoucherResponse 목록과 같은 XML 로 쓴다. voucher 마다 VoucherResponse 와 LocalDateTime 을 만들지 않는다.
+     */
+    private void writeVoucherBatch(XMLStreamWriter writer, VoucherBatch voucherBatch, char[] buffer) throws XMLStreamException {
+        writer.writeStartElement(LIST_ELEMENT);
+        for (int i = 0; i < voucherBatch.size(); i++) {
+            writer.writeStartElement(VOUCHER_ELEMENT);
+            writeElement(writer, "voucherId", voucherBatch.getVoucherId(i));
+            writeElement(writer, "amount", voucherBatch.getAmount(i));
+            writeElement(writer, "voucherType", voucherBatch.getVoucherType(i).name());
+
+            writer.writeStartElement("createdAt");
+            writer.writeCharacters(buffer, 0, IsoDateTimes.format(voucherBatch.getCreatedEpochMillis(i), buffer));
+            writer.writeEndElement();
+
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeElement(XMLStreamWriter writer, String name, Long value) throws XMLStreamException {
+        if (value != null) {
+            writeElement(writer, name, value.longValue());
+        }
+    }
+
+    private void writeElement(XMLStreamWriter writer, String name, long value) throws XMLStreamException {
+        writeElement(writer, name, Long.toString(value));
+    }
+
+    private void writeElement(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        if (value == null) {
+            return;
+        }
+
+        writer.writeStartElement(name);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private void writeElement(XMLStreamWriter writer, String name, LocalDateTime value, char[] buffer) throws XMLStreamException {
+        if (value == null) {
+            return;
+        }
+
+        writer.writeStartElement(name);
+        writer.writeCharacters(buffer, 0, IsoDateTimes.format(value, buffer));
+        writer.writeEndElement();
+    }
+
+    private HttpMessageNotReadableException notReadable(HttpInputMessage inputMessage) {
+        return new HttpMessageNotReadableException(getClass().getSimpleName() + " is write-only", inputMessage);
+    }
+
+    private boolean isResponseType(Class<?> clazz) {
+        return VoucherResponse.class == clazz || CustomerResponse.class == clazz || WalletResponse.class == clazz;
+    }
+}
@@ -10,6 +10,10 @@ import java.util.List;
 
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
+    /**
+     * XML 은 XStream 으로 읽고 쓴다.
+     * ResponseXmlHttpMessageConverter 는 ResponseSerializationBenchmark 로 XStream 과 비교하기 전까지 등록하지 않는다.
+     */
     @Override
     public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
         MarshallingHttpMessageConverter messageConverter = new MarshallingHttpMessageConverter();
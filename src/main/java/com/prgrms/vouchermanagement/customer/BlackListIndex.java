@@ -0,0 +1,242 @@
+package com.prgrms.vouchermanagement.customer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * black list 파일을 메모리 매핑해서 한 번 훑으며 만든 byte 단위 인덱스.
+ * 줄마다 Customer 나 String 을 만들지 않고 name, email 의 byte 를 하나의 byte[] 에 이어 붙인 뒤,
+ * 그 위치를 open addressing hash table 로 찾는다. 따라서 메모리는 파일 크기와 줄 수에 비례한다.
+ *
+ * <pre>
+ * entry i : name = bytes[nameStarts[i], emailStarts[i]), email = bytes[emailStarts[i], ends[i])
+ * table   : | hash(32) | entry 번호 + 1 (32) |, 0 은 빈 칸
+ *           hash 가 같을 때만 byte 를 비교하므로 대부분의 탐색에서 entry 의 byte 를 읽지 않는다.
+ * </pre>
+ */
+final class BlackListIndex {
+
+    static final BlackListIndex EMPTY = new BlackListIndex(new byte[0], new int[0], new int[0], new int[0], 0);
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final byte[] bytes;
+    private final int[] nameStarts;
+    private final int[] emailStarts;
+    private final int[] ends;
+    private final int size;
+    private final long[] nameTable;
+    private final long[] emailTable;
+
+    private BlackListIndex(byte[] bytes, int[] nameStarts, int[] emailStarts, int[] ends, int size) {
+        this.bytes = bytes;
+        this.nameStarts = nameStarts;
+        this.emailStarts = emailStarts;
+        this.ends = ends;
+        this.size = size;
+
+        int tableSize = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.nameTable = new long[tableSize];
+        this.emailTable = new long[tableSize];
+        for (int i = 0; i < size; i++) {
+            insert(nameTable, nameStarts, emailStarts, i);
+            insert(emailTable, emailStarts, ends, i);
+        }
+    }
+
+    /**
+     * 한 줄은 "name" 또는 "name,email" 형식이며, 각 값의 앞뒤 공백은 무시하고 email 의 ASCII 대문자는 소문자로 바꿔 저장한다.
+     *
+     * @throws IOException : 파일을 읽지 못하거나 2GB 를 넘는 경우 던져진다.
+     */
+    static BlackListIndex load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("black list file is too large: " + fileSize);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            return scan(buffer, (int) fileSize);
+        }
+    }
+
+    /**
+     * 매핑된 파일을 한 번에 byte[] 로 복사한 뒤, 같은 배열 안에서 앞쪽으로 name, email 을 옮겨 담는다.
+     * 쓰는 위치가 읽는 위치를 앞지르지 않으므로 추가 버퍼가 필요 없다.
+     */
+    private static BlackListIndex scan(MappedByteBuffer buffer, int fileSize) {
+        byte[] bytes = new byte[fileSize];
+        buffer.get(bytes, 0, fileSize);
+
+        int[] nameStarts = new int[16];
+        int[] emailStarts = new int[16];
+        int[] ends = new int[16];
+        int size = 0;
+        int length = 0;
+
+        int position = hasBom(bytes) ? UTF8_BOM.length : 0;
+        while (position < fileSize) {
+            int lineEnd = position;
+            int comma = -1;
+            while (lineEnd < fileSize && bytes[lineEnd] != '\n') {
+                if (comma < 0 && bytes[lineEnd] == ',') {
+                    comma = lineEnd;
+                }
+                lineEnd++;
+            }
+
+            int nameStart = length;
+            length = moveTrimmed(bytes, position, comma < 0 ? lineEnd : comma, length, false);
+            int emailStart = length;
+            if (comma >= 0) {
+                length = moveTrimmed(bytes, comma + 1, lineEnd, length, true);
+            }
+
+            if (emailStart > nameStart) {
+                if (size == ends.length) {
+                    nameStarts = Arrays.copyOf(nameStarts, size * 2);
+                    emailStarts = Arrays.copyOf(emailStarts, size * 2);
+                    ends = Arrays.copyOf(ends, size * 2);
+                }
+                nameStarts[size] = nameStart;
+                emailStarts[size] = emailStart;
+                ends[size] = length;
+                size++;
+            } else {
+                length = nameStart; // name 이 없는 줄은 버린다.
+            }
+
+            position = lineEnd + 1;
+        }
+
+        return new BlackListIndex(bytes, nameStarts, emailStarts, ends, size);
+    }
+
+    boolean containsName(String name) {
+        return name != null && contains(nameTable, nameStarts, emailStarts, name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    boolean containsEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+
+        byte[] key = email.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < key.length; i++) {
+            key[i] = toLowerCase(key[i]);
+        }
+        return contains(emailTable, emailStarts, ends, key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 화면에 보여주는 경우처럼 목록이 필요할 때만 Customer 를 만든다.
+     */
+    List<Customer> toCustomers() {
+        List<Customer> customers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = new String(bytes, nameStarts[i], emailStarts[i] - nameStarts[i], StandardCharsets.UTF_8);
+            String email = ends[i] > emailStarts[i] ? new String(bytes, emailStarts[i], ends[i] - emailStarts[i], StandardCharsets.UTF_8) : null;
+            customers.add(Customer.of(null, name, email, null, null));
+        }
+        return Collections.unmodifiableList(customers);
+    }
+
+    /**
+     * 같은 값이 이미 있으면 추가하지 않는다.
+     */
+    private void insert(long[] table, int[] starts, int[] ends, int entry) {
+        int start = starts[entry];
+        int end = ends[entry];
+        if (start == end) {
+            return;
+        }
+
+        int hash = hash(bytes, start, end);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            if (matches(table[slot], hash, starts, ends, bytes, start, end)) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = ((long) hash << 32) | (entry + 1);
+    }
+
+    private boolean contains(long[] table, int[] starts, int[] ends, byte[] key) {
+        if (key.length == 0) {
+            return false;
+        }
+
+        int hash = hash(key, 0, key.length);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            if (matches(table[slot], hash, starts, ends, key, 0, key.length)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    private boolean matches(long slotValue, int hash, int[] starts, int[] ends, byte[] key, int keyStart, int keyEnd) {
+        if ((int) (slotValue >>> 32) != hash) {
+            return false;
+        }
+
+        int entry = (int) slotValue - 1;
+        return Arrays.equals(bytes, starts[entry], ends[entry], key, keyStart, keyEnd);
+    }
+
+    private static int moveTrimmed(byte[] bytes, int from, int to, int length, boolean lowerCase) {
+        while (from < to && isWhitespace(bytes[from])) {
+            from++;
+        }
+        while (to > from && isWhitespace(bytes[to - 1])) {
+            to--;
+        }
+
+        for (int i = from; i < to; i++) {
+            bytes[length++] = lowerCase ? toLowerCase(bytes[i]) : bytes[i];
+        }
+        return length;
+    }
+
+    private static boolean hasBom(byte[] bytes) {
+        if (bytes.length < UTF8_BOM.length) {
+            return false;
+        }
+        return Arrays.equals(bytes, 0, UTF8_BOM.length, UTF8_BOM, 0, UTF8_BOM.length);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static byte toLowerCase(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private static int hash(byte[] source, int start, int end) {
+        int hash = 0x811c9dc5;
+        for (int i = start; i < end; i++) {
+            hash ^= source[i];
+            hash *= 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -6,39 +6,151 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
-import java.io.BufferedReader;
-import java.io.FileReader;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * customer_black_list.csv 의 한 줄은 "name" 또는 "name,email" 형식이다.
+ * 파일이 변경되면 새로 읽은 black list 로 한 번에 교체하므로, 조회 중인 스레드는 항상 변경 전이나 변경 후의 black list 중 하나를 본다.
+ */
 @Repository
 public class BlackListRepository {
 
+    private static final long RELOAD_DELAY_MILLIS = 200;
+
     private final FilePathProperties filePathProperties;
     private final Logger log = LoggerFactory.getLogger(this.getClass());
-    private final List<Customer> blackList = new ArrayList<>();
+    private volatile BlackListIndex blackList = BlackListIndex.EMPTY;
+
+    private WatchService watchService;
+    private ExecutorService watcher;
 
     public BlackListRepository(FilePathProperties filePathProperties) {
         this.filePathProperties = filePathProperties;
     }
 
     @PostConstruct
-    private void init() {
-        String blackListFilePath = filePathProperties.getBlackListFilePath();
-
-        // customer_black_list.csv 파일을 읽어서 Member 타입의 List 로 변환한다.
-        try (BufferedReader br = new BufferedReader(new FileReader(blackListFilePath))) {
-            String name = null;
-            while ((name = br.readLine()) != null) {
-                blackList.add(Customer.of(null, name,null ,null, null));
-            }
+    void init() {
+        reload();
+        watch();
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
         } catch (IOException e) {
-            log.error("not found {}", blackListFilePath, e);
+            log.error("failed to close watch service", e);
+        }
+
+        if (watcher != null) {
+            watcher.shutdown();
         }
     }
 
     public List<Customer> findAll() {
-        return blackList;
+        return blackList.toCustomers();
+    }
+
+    /**
+     * customer 의 name 이나 email 이 black list 에 있는지 확인한다. email 은 대소문자를 구분하지 않는다.
+     */
+    public boolean isBlackListed(Customer customer) {
+        BlackListIndex current = blackList;
+        return current.containsName(customer.getName()) || current.containsEmail(customer.getEmail());
+    }
+
+    /**
+     * 파일을 다시 읽어 black list 를 교체한다. 파일을 읽지 못하면 기존 black list 를 유지한다.
+     */
+    void reload() {
+        Path blackListPath = Paths.get(filePathProperties.getBlackListFilePath());
+
+        try {
+            blackList = BlackListIndex.load(blackListPath);
+        } catch (IOException e) {
+            log.error("not found {}", blackListPath, e);
+        }
+    }
+
+    /**
+     * WatchService 는 디렉토리 단위로 등록되므로 black list 파일이 있는 디렉토리를 감시하고, 해당 파일의 이벤트만 처리한다.
+     */
+    private void watch() {
+        Path blackListPath = Paths.get(filePathProperties.getBlackListFilePath()).toAbsolutePath();
+        Path directory = blackListPath.getParent();
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.error("failed to watch {}", directory, e);
+            destroy();
+            watchService = null;
+            return;
+        }
+
+        watcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blacklist-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watcher.execute(() -> watchLoop(blackListPath.getFileName()));
+    }
+
+    /**
+     * 파일을 덮어쓰는 동안에는 비어 있거나 일부만 쓰인 파일이 보일 수 있으므로,
+     * 이벤트가 RELOAD_DELAY_MILLIS 동안 더 오지 않을 때까지 기다린 뒤 다시 읽는다.
+     */
+    private void watchLoop(Path fileName) {
+        try {
+            while (true) {
+                boolean changed = pollChanged(watchService.take(), fileName);
+
+                WatchKey key;
+                while ((key = watchService.poll(RELOAD_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= pollChanged(key, fileName);
+                }
+
+                if (changed) {
+                    reload();
+                    log.info("reloaded {} black list entries", blackList.size());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // destroy 에서 WatchService 를 닫으면 종료된다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean pollChanged(WatchKey key, Path fileName) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= fileName.equals(event.context());
+        }
+
+        if (!key.reset()) {
+            log.error("black list directory is no longer accessible");
+        }
+        return changed;
     }
 }
@@ -1,14 +1,14 @@
 package com.prgrms.vouchermanagement.customer;
 
-import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.util.CursorPage;
 import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
-import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import com.prgrms.vouchermanagement.wallet.CustomerPortfolio;
+import com.prgrms.vouchermanagement.wallet.PortfolioService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 import java.util.Optional;
 
 @Controller
@@ -16,33 +16,36 @@ import java.util.Optional;
 public class CustomerController {
 
     private final CustomerService customerService;
-    private final VoucherService voucherService;
+    private final PortfolioService portfolioService;
 
-    public CustomerController(CustomerService customerService, VoucherService voucherService) {
+    public CustomerController(CustomerService customerService, PortfolioService portfolioService) {
         this.customerService = customerService;
-        this.voucherService = voucherService;
+        this.portfolioService = portfolioService;
     }
 
     @GetMapping(value = "")
-    public String findAll(Model model) {
-        List<Customer> customers = customerService.findAll();
-        model.addAttribute("customers", CustomerResponse.fromList(customers));
+    public String findAll(@RequestParam(required = false) Long cursor,
+                          @RequestParam(defaultValue = "20") int size,
+                          Model model) {
+        CursorPage<Customer> customerPage = customerService.findPage(cursor, size);
+        model.addAttribute("customers", CustomerResponse.fromList(customerPage.getContent()));
+        model.addAttribute("cursor", cursor);
+        model.addAttribute("nextCursor", customerPage.getNextCursor());
+        model.addAttribute("size", CursorPage.limitSize(size));
         return "customer/customers";
     }
 
     @GetMapping(value = "/{customerId}")
     public String findById(@PathVariable Long customerId, Model model) {
-        Optional<Customer> optionalCustomer = customerService.findById(customerId);
+        Optional<CustomerPortfolio> optionalPortfolio = portfolioService.findCustomerPortfolio(customerId);
 
-        if (optionalCustomer.isEmpty()) {
+        if (optionalPortfolio.isEmpty()) {
             return "error/404";
         }
 
-        Customer findCustomer = optionalCustomer.get();
-        List<Voucher> vouchers = voucherService.findVoucherByCustomer(findCustomer.getCustomerId());
-
-        model.addAttribute("customer", CustomerResponse.from(findCustomer));
-        model.addAttribute("vouchers", VoucherResponse.fromList(vouchers));
+        CustomerPortfolio portfolio = optionalPortfolio.get();
+        model.addAttribute("customer", CustomerResponse.from(portfolio.getCustomer()));
+        model.addAttribute("vouchers", VoucherResponse.fromList(portfolio.getVouchers()));
 
         return "customer/customer";
     }
@@ -10,8 +10,10 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.prgrms.vouchermanagement.customer.CustomerSql.*;
 
@@ -21,6 +23,8 @@ public class CustomerNamedJdbcRepository implements CustomerRepository {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    private static final int IN_CLAUSE_SIZE = 1000;
+
     public CustomerNamedJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
@@ -57,6 +61,19 @@ public class CustomerNamedJdbcRepository implements CustomerRepository {
         }
     }
 
+    @Override
+    public List<Customer> findPage(Long cursor, int limit) throws DataAccessException {
+        try {
+            MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+                    .addValue("cursor", cursor == null ? 0L : cursor)
+                    .addValue("limit", limit);
+            return jdbcTemplate.query(SELECT_PAGE_SQL, parameterSource, customerRowMapper);
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
     @Override
     public Optional<Customer> findById(Long customerID) throws DataAccessException {
         try {
@@ -70,6 +87,38 @@ public class CustomerNamedJdbcRepository implements CustomerRepository {
         }
     }
 
+    /**
+     * 행을 읽어 매핑하지 않고 존재 여부만 확인한다.
+     */
+    @Override
+    public boolean existsById(Long customerId) throws DataAccessException {
+        return exists(EXISTS_BY_ID_SQL, "customerId", customerId);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) throws DataAccessException {
+        return exists(EXISTS_BY_EMAIL_SQL, "email", email);
+    }
+
+    /**
+     * IN 절의 크기가 너무 커지지 않도록 IN_CLAUSE_SIZE 개씩 나누어 조회한다.
+     */
+    @Override
+    public List<Customer> findByIds(Collection<Long> customerIds) throws DataAccessException {
+        try {
+            List<Long> ids = new ArrayList<>(customerIds);
+            List<Customer> customers = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+                customers.addAll(jdbcTemplate.query(SELECT_BY_IDS_SQL, Collections.singletonMap("customerIds", chunk), customerRowMapper));
+            }
+            return customers;
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
     @Override
     public List<Customer> findByName(String name) throws DataAccessException {
         try {
@@ -92,6 +141,29 @@ public class CustomerNamedJdbcRepository implements CustomerRepository {
         }
     }
 
+    @Override
+    public long count() throws DataAccessException {
+        try {
+            Long count = jdbcTemplate.queryForObject(COUNT_SQL, Collections.emptyMap(), Long.class);
+            return count == null ? 0 : count;
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void forEachEmail(Consumer<String> consumer) throws DataAccessException {
+        try {
+            jdbcTemplate.query(SELECT_EMAILS_SQL, rs -> {
+                consumer.accept(rs.getString("email"));
+            });
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
     @Override
     public List<Customer> findCustomerByVoucher(Long voucherId) throws DataAccessException {
         try {
@@ -102,9 +174,26 @@ public class CustomerNamedJdbcRepository implements CustomerRepository {
         }
     }
 
+    /**
+     * 존재 여부를 따로 조회하지 않고 삭제된 행 수로 판단한다.
+     */
     @Override
-    public void remove(Long customerId) throws DataAccessException {
-        jdbcTemplate.update(DELETE_BY_ID_SQL, Collections.singletonMap("customerId", customerId));
+    public boolean remove(Long customerId) throws DataAccessException {
+        try {
+            return jdbcTemplate.update(DELETE_BY_ID_SQL, Collections.singletonMap("customerId", customerId)) > 0;
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
+    private boolean exists(String sql, String paramName, Object value) throws DataAccessException {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.query(sql, Collections.singletonMap(paramName, value), ResultSet::next));
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
     }
 
     private final RowMapper<Customer> customerRowMapper = (rs, rowNum) -> {
@@ -1,7 +1,9 @@
 package com.prgrms.vouchermanagement.customer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CustomerRepository {
 
@@ -9,15 +11,39 @@ public interface CustomerRepository {
 
     void update(Customer customer);
 
-    void remove(Long customerId);
+    /**
+     * @return 삭제된 customer 가 있으면 true
+     */
+    boolean remove(Long customerId);
 
     List<Customer> findAll();
 
+    /**
+     * customerId 가 cursor 보다 큰 customer 를 customerId 순으로 최대 limit 개 조회한다. cursor 가 null 이면 처음부터 조회한다.
+     */
+    List<Customer> findPage(Long cursor, int limit);
+
     Optional<Customer> findById(Long customerID);
 
+    boolean existsById(Long customerId);
+
+    boolean existsByEmail(String email);
+
+    /**
+     * 전달받은 customerId 중 등록된 customer 만 반환한다.
+     */
+    List<Customer> findByIds(Collection<Long> customerIds);
+
     List<Customer> findByName(String name);
 
     Optional<Customer> findByEmail(String email);
 
+    long count();
+
+    /**
+     * 등록된 모든 email 을 List 로 모으지 않고 한 행씩 consumer 에 전달한다.
+     */
+    void forEachEmail(Consumer<String> consumer);
+
     List<Customer> findCustomerByVoucher(Long voucherId);
 }
@@ -1,9 +1,12 @@
 package com.prgrms.vouchermanagement.customer;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@JsonSerialize(using = CustomerResponseSerializer.class)
 public class CustomerResponse {
 
     private Long customerId;
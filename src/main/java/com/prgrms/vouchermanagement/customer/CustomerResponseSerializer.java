@@ -0,0 +1,43 @@
+package com.prgrms.vouchermanagement.customer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.prgrms.vouchermanagement.util.IsoDateTimes;
+
+import java.io.IOException;
+
+/**
+ * CustomerResponse 를 {"customerId", "name", "email", "createdAt"} 순서로 쓴다. null 인 필드는 null 로 쓴다.
+ */
+public class CustomerResponseSerializer extends StdSerializer<CustomerResponse> {
+
+    public CustomerResponseSerializer() {
+        super(CustomerResponse.class);
+    }
+
+    @Override
+    public void serialize(CustomerResponse customerResponse, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(customerResponse);
+
+        if (customerResponse.getCustomerId() == null) {
+            generator.writeNullField("customerId");
+        } else {
+            generator.writeNumberField("customerId", customerResponse.getCustomerId());
+        }
+
+        // writeStringField 는 값이 null 이면 null 로 쓴다.
+        generator.writeStringField("name", customerResponse.getName());
+        generator.writeStringField("email", customerResponse.getEmail());
+
+        generator.writeFieldName("createdAt");
+        if (customerResponse.getCreatedAt() == null) {
+            generator.writeNull();
+        } else {
+            char[] buffer = new char[IsoDateTimes.BUFFER_SIZE];
+            generator.writeString(buffer, 0, IsoDateTimes.format(customerResponse.getCreatedAt(), buffer));
+        }
+
+        generator.writeEndObject();
+    }
+}
@@ -1,64 +1,122 @@
 package com.prgrms.vouchermanagement.customer;
 
+import com.prgrms.vouchermanagement.util.CursorPage;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class CustomerService {
 
+    private static final long MIN_EXPECTED_EMAILS = 1024;
+    private static final double EMAIL_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+
     private final CustomerRepository customerRepository;
+    private volatile EmailBloomFilter emailFilter = new EmailBloomFilter(MIN_EXPECTED_EMAILS, EMAIL_FILTER_FALSE_POSITIVE_PROBABILITY);
 
     public CustomerService(CustomerRepository customerRepository) {
         this.customerRepository = customerRepository;
     }
 
     /**
+     * 등록된 email 로 bloom filter 를 다시 만든다. 이후 가입할 customer 를 위해 현재 customer 수의 2배 크기로 만든다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @PostConstruct
+    void rebuildEmailFilter() throws DataAccessException {
+        long expectedEmails = Math.max(customerRepository.count() * 2, MIN_EXPECTED_EMAILS);
+        EmailBloomFilter newEmailFilter = new EmailBloomFilter(expectedEmails, EMAIL_FILTER_FALSE_POSITIVE_PROBABILITY);
+        customerRepository.forEachEmail(newEmailFilter::put);
+        emailFilter = newEmailFilter;
+    }
+
+    /**
+     * bloom filter 에 없는 email 은 조회 없이 바로 저장한다.
+     * bloom filter 에 반영되지 않은 중복 email 은 email unique 제약 조건(unq_user_email)으로 확인한다.
+     *
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
     public Long addCustomer(String name, String email) throws DataAccessException, IllegalArgumentException {
-        if (isRegisteredCustomer(email)) {
+        if (email != null && emailFilter.mightContain(email) && customerRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("중복된 email입니다.");
         }
 
         Customer newCustomer = Customer.of(name, email);
 
-        return customerRepository.save(newCustomer);
+        try {
+            Long customerId = customerRepository.save(newCustomer);
+            emailFilter.put(email);
+            return customerId;
+        } catch (DuplicateKeyException e) {
+            emailFilter.put(email);
+            throw new IllegalArgumentException("중복된 email입니다.", e);
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<Customer> findAll() {
         return customerRepository.findAll();
     }
 
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Customer> findPage(Long cursor, int size) throws DataAccessException {
+        int limitedSize = CursorPage.limitSize(size);
+        List<Customer> customers = customerRepository.findPage(cursor, limitedSize + 1);
+        return CursorPage.of(customers, limitedSize, Customer::getCustomerId);
+    }
+
+    @Transactional(readOnly = true)
     public List<Customer> findCustomerByVoucher(Long voucherId) throws DataAccessException {
         return customerRepository.findCustomerByVoucher(voucherId);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Customer> findById(Long customerId) {
         return customerRepository.findById(customerId);
     }
 
-    public boolean removeCustomer(Long customerId) {
-        if (!isRegisteredCustomer(customerId)) {
-            return false;
+    /**
+     * 전달받은 customerId 중 등록된 customer 를 한 번의 조회로 가져온다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public List<Customer> findRegisteredCustomers(Collection<Long> customerIds) throws DataAccessException {
+        if (customerIds.isEmpty()) {
+            return Collections.emptyList();
         }
-        customerRepository.remove(customerId);
-        return true;
+        return customerRepository.findByIds(customerIds);
+    }
+
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    public boolean removeCustomer(Long customerId) throws DataAccessException {
+        return customerId != null && customerRepository.remove(customerId);
     }
 
     /**
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
     public boolean isRegisteredCustomer(String email) throws DataAccessException {
-        return email != null && customerRepository.findByEmail(email).isPresent();
+        return email != null && customerRepository.existsByEmail(email);
     }
 
     /**
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
     public boolean isRegisteredCustomer(Long customerId) throws DataAccessException {
-        return customerId != null && customerRepository.findById(customerId).isPresent();
+        return customerId != null && customerRepository.existsById(customerId);
     }
 }
@@ -8,8 +8,14 @@ public final class CustomerSql {
     public static final String INSERT_SQL = "INSERT INTO customer(name, email, created_at) VALUES(:name, :email, :createdAt)";
     public static final String UPDATE_SQL = "UPDATE customer SET name = :name, email = :email, last_login_at = :lastLoginAt WHERE customer_id = :customerId";
     public static final String SELECT_SQL = "SELECT * FROM customer";
+    public static final String SELECT_PAGE_SQL = "SELECT * FROM customer WHERE customer_id > :cursor ORDER BY customer_id LIMIT :limit";
     public static final String SELECT_BY_ID = "SELECT * FROM customer WHERE customer_id = :customerId";
     public static final String SELECT_BY_NAME_SQL = "SELECT * FROM customer WHERE name = :name";
+    public static final String EXISTS_BY_ID_SQL = "SELECT 1 FROM customer WHERE customer_id = :customerId LIMIT 1";
+    public static final String EXISTS_BY_EMAIL_SQL = "SELECT 1 FROM customer WHERE email = :email LIMIT 1";
+    public static final String SELECT_BY_IDS_SQL = "SELECT * FROM customer WHERE customer_id IN (:customerIds)";
+    public static final String SELECT_EMAILS_SQL = "SELECT email FROM customer";
+    public static final String COUNT_SQL = "SELECT count(*) FROM customer";
     public static final String SELECT_BY_EMAIL_SQL = "SELECT * FROM customer WHERE email = :email";
     public static final String DELETE_SQL = "DELETE FROM customer";
     public static final String DELETE_BY_ID_SQL = "DELETE FROM customer WHERE customer_id=:customerId";
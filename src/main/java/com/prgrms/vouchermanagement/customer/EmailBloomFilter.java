@@ -0,0 +1,84 @@
+package com.prgrms.vouchermanagement.customer;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 등록된 email 의 bloom filter.
+ * mightContain 이 false 이면 등록되지 않은 email 이 확실하고, true 이면 등록되었을 수도 있으므로 DB 로 확인해야 한다.
+ * 삭제는 지원하지 않으므로 삭제된 customer 의 email 은 true 로 남으며 DB 조회로 처리된다.
+ */
+public class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions : 예상 email 수. 이보다 많이 추가되면 false positive 비율이 올라간다.
+     * @param falsePositiveProbability : expectedInsertions 개를 추가했을 때의 false positive 비율
+     */
+    public EmailBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long insertions = Math.max(expectedInsertions, 1L);
+        long optimalBitSize = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min((optimalBitSize + Long.SIZE - 1) / Long.SIZE, Integer.MAX_VALUE);
+
+        this.bits = new AtomicLongArray(Math.max(wordCount, 1));
+        this.bitSize = (long) bits.length() * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    public void put(String email) {
+        long hash1 = hash(email);
+        long hash2 = mix(hash1);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long word = bits.get(wordIndex);
+            while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask)) {
+                word = bits.get(wordIndex);
+            }
+        }
+    }
+
+    public boolean mightContain(String email) {
+        long hash1 = hash(email);
+        long hash2 = mix(hash1);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * DB 의 email 비교가 대소문자를 구분하지 않을 수 있으므로 소문자로 바꾼 값의 FNV-1a 64bit hash 를 사용한다.
+     */
+    private static long hash(String email) {
+        String normalizedEmail = email.toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalizedEmail.length(); i++) {
+            hash ^= normalizedEmail.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 두 번째 hash 는 첫 번째 hash 를 murmur3 finalizer 로 섞어 만들고, 0 이 되지 않도록 홀수로 맞춘다.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1L;
+    }
+}
@@ -0,0 +1,32 @@
+package com.prgrms.vouchermanagement.discount;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+@RequestMapping("/api/v1/discounts")
+public class DiscountApiController {
+
+    private final DiscountEngine discountEngine;
+
+    public DiscountApiController(DiscountEngine discountEngine) {
+        this.discountEngine = discountEngine;
+    }
+
+    @PostMapping(value = "/evaluate", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public DiscountEvaluation evaluate(@RequestBody DiscountEvaluationRequest evaluationRequest) {
+        return discountEngine.evaluate(evaluationRequest.getCustomerIds(), evaluationRequest.getPrices());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+}
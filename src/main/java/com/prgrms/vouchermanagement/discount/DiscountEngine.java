@@ -0,0 +1,170 @@
+package com.prgrms.vouchermanagement.discount;
+
+import com.prgrms.vouchermanagement.util.DiscountProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.service.VoucherChangedEvent;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * (customerId, 가격) 목록을 받아 각 customer 의 wallet 에서 가장 많이 할인되는 voucher 를 적용한 가격을 계산한다.
+ * 요청의 customerId 는 정렬하여 중복을 제거한 뒤 캐시에 없는 customer 의 wallet 만 모아 한 번에 조회하고,
+ * 가격 계산은 long[] 위에서 chunkSize 단위로 나누어 병렬로 처리하므로 가격마다 객체를 만들지 않는다.
+ */
+@Service
+public class DiscountEngine {
+
+    private final VoucherService voucherService;
+    private final DiscountProperties discountProperties;
+    private final WalletDiscountCache walletDiscountCache;
+
+    public DiscountEngine(VoucherService voucherService, DiscountProperties discountProperties) {
+        this.voucherService = voucherService;
+        this.discountProperties = discountProperties;
+        this.walletDiscountCache = new WalletDiscountCache(discountProperties.getCacheMaximumSize(), discountProperties.getCacheTtl());
+    }
+
+    /**
+     * customerIds[i] 의 wallet 으로 prices[i] 를 할인한 결과를 같은 index 에 담아 반환한다.
+     * wallet 이 비어 있거나 등록되지 않은 customer 의 가격은 할인하지 않는다.
+     *
+     * @throws IllegalArgumentException : 두 배열의 길이가 다르거나, 최대 개수를 넘거나, 음수 가격이 있는 경우 던져진다.
+     * @throws DataAccessException : 캐시에 없는 wallet 을 조회하는 중 문제가 발생한 경우 던져진다.
+     */
+    public DiscountEvaluation evaluate(long[] customerIds, long[] prices) throws IllegalArgumentException, DataAccessException {
+        validate(customerIds, prices);
+
+        long[] distinctCustomerIds = distinctSorted(customerIds);
+        WalletDiscount[] walletDiscounts = walletDiscountCache.getAll(distinctCustomerIds, this::loadWalletDiscounts);
+
+        int size = prices.length;
+        long[] finalPrices = new long[size];
+        long[] appliedVoucherIds = new long[size];
+
+        int chunkSize = discountProperties.getChunkSize();
+        int chunkCount = (size + chunkSize - 1) / chunkSize;
+        IntStream chunks = IntStream.range(0, chunkCount);
+        if (chunkCount > 1) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            int from = chunk * chunkSize;
+            int to = Math.min(from + chunkSize, size);
+            evaluateRange(from, to, customerIds, prices, distinctCustomerIds, walletDiscounts, finalPrices, appliedVoucherIds);
+        });
+
+        return new DiscountEvaluation(finalPrices, appliedVoucherIds);
+    }
+
+    /**
+     * wallet 이 변경된 customer 의 캐시를 비운다. 다음 계산에서 wallet 을 다시 조회한다.
+     * 트랜잭션 안에서 호출되면 commit 전에 다른 요청이 변경 전 wallet 을 다시 캐시할 수 있으므로 commit 후에 비운다.
+     */
+    public void invalidate(Long customerId) {
+        afterCommit(() -> invalidateNow(customerId));
+    }
+
+    /**
+     * 여러 customer 의 캐시를 commit 후에 한 번에 비운다.
+     */
+    public void invalidate(Collection<Long> customerIds) {
+        afterCommit(() -> customerIds.forEach(this::invalidateNow));
+    }
+
+    /**
+     * WalletDiscount 는 voucher 의 amount 를 담고 있으므로 voucher 가 바뀌면 캐시를 모두 비운다.
+     * VoucherService 의 트랜잭션 안에서 발행되면 commit 후에, 트랜잭션 밖에서 발행되면 바로 실행된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoucherChanged(VoucherChangedEvent event) {
+        walletDiscountCache.invalidateAll();
+    }
+
+    /**
+     * 장바구니처럼 같은 customer 의 가격이 연속되는 경우가 많으므로, 직전 customer 와 같으면 다시 찾지 않는다.
+     */
+    private static void evaluateRange(int from, int to, long[] customerIds, long[] prices,
+                                      long[] distinctCustomerIds, WalletDiscount[] walletDiscounts,
+                                      long[] finalPrices, long[] appliedVoucherIds) {
+        long previousCustomerId = 0;
+        WalletDiscount walletDiscount = null;
+
+        for (int i = from; i < to; i++) {
+            if (walletDiscount == null || customerIds[i] != previousCustomerId) {
+                previousCustomerId = customerIds[i];
+                walletDiscount = walletDiscounts[Arrays.binarySearch(distinctCustomerIds, previousCustomerId)];
+            }
+            walletDiscount.apply(prices[i], i, finalPrices, appliedVoucherIds);
+        }
+    }
+
+    private void invalidateNow(Long customerId) {
+        if (customerId != null) {
+            walletDiscountCache.invalidate(customerId);
+        }
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private Map<Long, WalletDiscount> loadWalletDiscounts(List<Long> customerIds) {
+        Map<Long, List<Voucher>> vouchersByCustomer = voucherService.findVoucherByCustomersFromPrimary(customerIds);
+        Map<Long, WalletDiscount> walletDiscounts = new HashMap<>();
+        for (Long customerId : customerIds) {
+            walletDiscounts.put(customerId, WalletDiscount.of(vouchersByCustomer.getOrDefault(customerId, Collections.emptyList())));
+        }
+        return walletDiscounts;
+    }
+
+    private void validate(long[] customerIds, long[] prices) throws IllegalArgumentException {
+        if (customerIds == null || prices == null || customerIds.length != prices.length) {
+            throw new IllegalArgumentException("customerId와 가격의 개수가 일치하지 않습니다.");
+        }
+
+        if (prices.length > discountProperties.getMaxBatchSize()) {
+            throw new IllegalArgumentException("한 번에 계산할 수 있는 가격은 최대 " + discountProperties.getMaxBatchSize() + "개입니다.");
+        }
+
+        for (long price : prices) {
+            if (price < 0) {
+                throw new IllegalArgumentException("0보다 작은 가격은 계산할 수 없습니다.");
+            }
+        }
+    }
+
+    private static long[] distinctSorted(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int distinctCount = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinctCount);
+    }
+}
@@ -0,0 +1,23 @@
+package com.prgrms.vouchermanagement.discount;
+
+/**
+ * 요청과 같은 순서로 할인된 가격과 적용된 voucherId 를 담는다. 적용된 voucher 가 없으면 voucherId 는 0 이다.
+ */
+public class DiscountEvaluation {
+
+    private final long[] finalPrices;
+    private final long[] appliedVoucherIds;
+
+    public DiscountEvaluation(long[] finalPrices, long[] appliedVoucherIds) {
+        this.finalPrices = finalPrices;
+        this.appliedVoucherIds = appliedVoucherIds;
+    }
+
+    public long[] getFinalPrices() {
+        return finalPrices;
+    }
+
+    public long[] getAppliedVoucherIds() {
+        return appliedVoucherIds;
+    }
+}
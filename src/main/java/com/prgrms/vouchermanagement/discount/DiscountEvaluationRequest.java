@@ -0,0 +1,27 @@
+package com.prgrms.vouchermanagement.discount;
+
+/**
+ * customerIds[i] 와 prices[i] 가 하나의 가격 계산 요청이다.
+ * 항목마다 객체를 만들지 않도록 배열 두 개로 전달받는다.
+ */
+public class DiscountEvaluationRequest {
+
+    private long[] customerIds;
+    private long[] prices;
+
+    public DiscountEvaluationRequest() {
+    }
+
+    public DiscountEvaluationRequest(long[] customerIds, long[] prices) {
+        this.customerIds = customerIds;
+        this.prices = prices;
+    }
+
+    public long[] getCustomerIds() {
+        return customerIds;
+    }
+
+    public long[] getPrices() {
+        return prices;
+    }
+}
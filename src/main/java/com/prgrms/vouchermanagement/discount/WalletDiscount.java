@@ -0,0 +1,75 @@
+package com.prgrms.vouchermanagement.discount;
+
+import com.prgrms.vouchermanagement.voucher.PercentDiscountVoucher;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+
+import java.util.List;
+
+/**
+ * customer 의 wallet 에 있는 voucher 를 가격 계산에 필요한 값만 남겨 요약한 것.
+ * 같은 종류의 voucher 중에서는 amount 가 가장 큰 voucher 가 항상 가장 많이 할인하므로,
+ * 종류별로 가장 큰 voucher 하나씩만 보관하면 voucher 개수와 관계없이 두 번의 비교로 최선의 voucher 를 고를 수 있다.
+ * voucherId 가 0 이면 해당 종류의 voucher 가 없다는 뜻이다.
+ */
+final class WalletDiscount {
+
+    static final WalletDiscount EMPTY = new WalletDiscount(0, 0, 0, 0);
+
+    private final long fixedVoucherId;
+    private final long fixedAmount;
+    private final long percentVoucherId;
+    private final long percentage;
+
+    private WalletDiscount(long fixedVoucherId, long fixedAmount, long percentVoucherId, long percentage) {
+        this.fixedVoucherId = fixedVoucherId;
+        this.fixedAmount = fixedAmount;
+        this.percentVoucherId = percentVoucherId;
+        this.percentage = percentage;
+    }
+
+    static WalletDiscount of(List<Voucher> vouchers) {
+        long fixedVoucherId = 0;
+        long fixedAmount = 0;
+        long percentVoucherId = 0;
+        long percentage = 0;
+
+        for (Voucher voucher : vouchers) {
+            if (voucher.getVoucherId() == null) {
+                continue;
+            }
+
+            if (VoucherType.getVoucherType(voucher) == VoucherType.FIXED_DISCOUNT) {
+                if (fixedVoucherId == 0 || voucher.getAmount() > fixedAmount) {
+                    fixedVoucherId = voucher.getVoucherId();
+                    fixedAmount = voucher.getAmount();
+                }
+            } else if (percentVoucherId == 0 || voucher.getAmount() > percentage) {
+                percentVoucherId = voucher.getVoucherId();
+                percentage = voucher.getAmount();
+            }
+        }
+
+        if (fixedVoucherId == 0 && percentVoucherId == 0) {
+            return EMPTY;
+        }
+        return new WalletDiscount(fixedVoucherId, fixedAmount, percentVoucherId, percentage);
+    }
+
+    /**
+     * 할인 금액이 같으면 fixed voucher 를 적용한다. 할인 금액이 0 이면 어떤 voucher 도 적용하지 않는다.
+     * 결과는 finalPrices, appliedVoucherIds 의 index 위치에 기록한다.
+     */
+    void apply(long price, int index, long[] finalPrices, long[] appliedVoucherIds) {
+        long fixedDiscount = Math.min(fixedAmount, price);
+        long percentDiscount = PercentDiscountVoucher.discountAmount(price, percentage);
+
+        if (fixedDiscount >= percentDiscount) {
+            finalPrices[index] = price - fixedDiscount;
+            appliedVoucherIds[index] = fixedDiscount > 0 ? fixedVoucherId : 0;
+        } else {
+            finalPrices[index] = price - percentDiscount;
+            appliedVoucherIds[index] = percentVoucherId;
+        }
+    }
+}
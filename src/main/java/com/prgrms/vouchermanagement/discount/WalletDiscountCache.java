@@ -0,0 +1,115 @@
+package com.prgrms.vouchermanagement.discount;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * customerId 별 WalletDiscount 캐시.
+ * 여러 요청 thread 가 동시에 읽으므로 전체 lock 없이 ConcurrentHashMap 으로 보관한다.
+ * 최대 개수에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새로 조회한 값은 캐시하지 않는다.
+ */
+class WalletDiscountCache {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    WalletDiscountCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    WalletDiscountCache(int maximumSize, Duration ttl, LongSupplier ticker) {
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * customerIds[i] 의 WalletDiscount 를 같은 index 에 담아 반환한다.
+     * 캐시에 없는 customerId 는 모아서 loader 로 한 번에 조회하여 저장하고, loader 는 전달받은 모든 customerId 의 값을 반환해야 한다.
+     * 조회하는 동안 invalidate 가 있었다면 조회 결과가 이미 오래된 값일 수 있으므로 저장하지 않는다.
+     */
+    WalletDiscount[] getAll(long[] customerIds, Function<List<Long>, Map<Long, WalletDiscount>> loader) {
+        long now = ticker.getAsLong();
+        WalletDiscount[] walletDiscounts = new WalletDiscount[customerIds.length];
+        List<Long> missedCustomerIds = new ArrayList<>();
+        for (int i = 0; i < customerIds.length; i++) {
+            Entry entry = entries.get(customerIds[i]);
+            if (entry != null && !entry.isExpired(now)) {
+                walletDiscounts[i] = entry.walletDiscount;
+            } else {
+                missedCustomerIds.add(customerIds[i]);
+            }
+        }
+        if (missedCustomerIds.isEmpty()) {
+            return walletDiscounts;
+        }
+
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        Map<Long, WalletDiscount> loadedWalletDiscounts = loader.apply(missedCustomerIds);
+
+        if (entries.size() >= maximumSize) {
+            entries.values().removeIf(cached -> cached.isExpired(now));
+        }
+        long expiresAt = ticker.getAsLong() + ttlNanos;
+        for (int i = 0; i < customerIds.length; i++) {
+            if (walletDiscounts[i] == null) {
+                walletDiscounts[i] = loadedWalletDiscounts.get(customerIds[i]);
+                put(customerIds[i], new Entry(walletDiscounts[i], expiresAt), invalidationCountBeforeLoad);
+            }
+        }
+        return walletDiscounts;
+    }
+
+    void invalidate(long customerId) {
+        invalidationCount.incrementAndGet();
+        entries.remove(customerId);
+    }
+
+    /**
+     * voucher 가 바뀌면 어떤 customer 의 WalletDiscount 가 영향을 받는지 알 수 없으므로 모두 비운다.
+     */
+    void invalidateAll() {
+        invalidationCount.incrementAndGet();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void put(long customerId, Entry loadedEntry, long invalidationCountBeforeLoad) {
+        if (entries.size() >= maximumSize || invalidationCount.get() != invalidationCountBeforeLoad) {
+            return;
+        }
+
+        entries.put(customerId, loadedEntry);
+
+        // 확인한 뒤 저장하기 전에 invalidate 가 끼어들었다면 방금 저장한 값을 되돌린다.
+        if (invalidationCount.get() != invalidationCountBeforeLoad) {
+            entries.remove(customerId, loadedEntry);
+        }
+    }
+
+    private static class Entry {
+        private final WalletDiscount walletDiscount;
+        private final long expiresAt;
+
+        private Entry(WalletDiscount walletDiscount, long expiresAt) {
+            this.walletDiscount = walletDiscount;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
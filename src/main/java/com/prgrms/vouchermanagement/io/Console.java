@@ -4,6 +4,7 @@ import com.prgrms.vouchermanagement.util.StringUtils;
 import org.springframework.stereotype.Component;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Scanner;
@@ -65,6 +66,27 @@ public class Console implements Input, Output{
         return Long.parseLong(input);
     }
 
+    /**
+     * 쉼표로 구분된 id 목록을 입력 받는다.
+     */
+    @Override
+    public List<Long> inputIds(String title) throws InputMismatchException {
+        showTitle(title + " (comma separated)");
+        String input = sc.nextLine();
+
+        List<Long> ids = new ArrayList<>();
+        for (String token : input.split(",")) {
+            String trimmed = token.trim();
+
+            // 숫자가 아닌 문자가 입력되면 예외를 던진다.
+            if (!StringUtils.isNumber(trimmed)) {
+                throw new InputMismatchException();
+            }
+            ids.add(Long.parseLong(trimmed));
+        }
+        return ids;
+    }
+
     @Override
     public String inputCommand() {
         showTitle("command");
@@ -91,6 +113,7 @@ public class Console implements Input, Output{
         System.out.println("2. Find voucher in wallet");
         System.out.println("3. Remove voucher in wallet");
         System.out.println("4. Find customer who has specific voucher");
+        System.out.println("5. Add voucher to many customer wallets");
     }
 
     @Override
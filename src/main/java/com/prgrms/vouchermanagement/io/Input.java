@@ -1,6 +1,7 @@
 package com.prgrms.vouchermanagement.io;
 
 import java.util.InputMismatchException;
+import java.util.List;
 
 public interface Input {
     String inputCommand();
@@ -11,5 +12,7 @@ public interface Input {
 
     Long inputId(String title) throws InputMismatchException;
 
+    List<Long> inputIds(String title) throws InputMismatchException;
+
     int inputNumber(String title) throws InputMismatchException;
 }
@@ -0,0 +1,105 @@
+package com.prgrms.vouchermanagement.metrics;
+
+import com.prgrms.vouchermanagement.voucher.repository.SelectCondition;
+import com.prgrms.vouchermanagement.voucher.repository.VoucherSearchCondition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * service, JDBC repository 의 public 메서드 실행 시간과 예외 횟수를 기록한다.
+ * VoucherSearchCondition 을 받는 조회는 적용된 SelectCondition 조합을 condition tag 로 구분한다.
+ * Timer 는 join point 별로 한 번만 만들어 호출마다 registry 를 조회하지 않는다.
+ */
+@Aspect
+public class HotPathMetricsAspect {
+
+    public static final String SERVICE_TIMER = "vouchermanagement.service";
+    public static final String REPOSITORY_TIMER = "vouchermanagement.repository";
+    public static final String ERROR_COUNTER = "vouchermanagement.errors";
+
+    private static final String NO_CONDITION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final double[] percentiles;
+    private final Map<JoinPoint.StaticPart, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public HotPathMetricsAspect(MeterRegistry meterRegistry, double[] percentiles) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = percentiles;
+    }
+
+    @Around("execution(public * com.prgrms.vouchermanagement.voucher.service.VoucherService.*(..))" +
+            " || execution(public * com.prgrms.vouchermanagement.customer.CustomerService.*(..))" +
+            " || execution(public * com.prgrms.vouchermanagement.wallet.VoucherWalletService.*(..))")
+    public Object measureService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, SERVICE_TIMER, NO_CONDITION);
+    }
+
+    @Around("execution(public * com.prgrms.vouchermanagement.voucher.repository.JdbcVoucherRepository.*(..))" +
+            " || execution(public * com.prgrms.vouchermanagement.customer.CustomerNamedJdbcRepository.*(..))" +
+            " || execution(public * com.prgrms.vouchermanagement.wallet.JdbcVoucherWalletRepository.*(..))")
+    public Object measureRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, REPOSITORY_TIMER, toConditionTag(joinPoint.getArgs()));
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, String timerName, String condition) throws Throwable {
+        long startTime = meterRegistry.config().clock().monotonicTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            errorCounter(joinPoint, e).increment();
+            throw e;
+        } finally {
+            long elapsedNanos = meterRegistry.config().clock().monotonicTime() - startTime;
+            timer(joinPoint, timerName, condition).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(JoinPoint joinPoint, String timerName, String condition) {
+        return timers.computeIfAbsent(joinPoint.getStaticPart(), staticPart -> new ConcurrentHashMap<>())
+                .computeIfAbsent(condition, tag -> Timer.builder(timerName)
+                        .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                        .tag("method", joinPoint.getSignature().getName())
+                        .tag("condition", tag)
+                        .publishPercentiles(percentiles)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * 예외는 드물게 발생하므로 캐시하지 않고 registry 에서 조회한다.
+     */
+    private Counter errorCounter(JoinPoint joinPoint, Throwable e) {
+        return Counter.builder(ERROR_COUNTER)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", e.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private static String toConditionTag(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof VoucherSearchCondition) {
+                Set<SelectCondition> selectConditions = ((VoucherSearchCondition) arg).getSelectConditions();
+                if (selectConditions.isEmpty()) {
+                    return "ALL";
+                }
+
+                StringJoiner joiner = new StringJoiner("+");
+                selectConditions.forEach(selectCondition -> joiner.add(selectCondition.name()));
+                return joiner.toString();
+            }
+        }
+        return NO_CONDITION;
+    }
+}
@@ -0,0 +1,26 @@
+package com.prgrms.vouchermanagement.metrics;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnProperty(prefix = "metrics", name = "enabled", havingValue = "true")
+public class MetricsController {
+
+    private final PrometheusMeterRegistry meterRegistry;
+
+    public MetricsController(PrometheusMeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 수집된 측정값을 Prometheus text 형식으로 반환한다.
+     */
+    @GetMapping(value = "/metrics", produces = TextFormat.CONTENT_TYPE_004)
+    public String scrape() {
+        return meterRegistry.scrape();
+    }
+}
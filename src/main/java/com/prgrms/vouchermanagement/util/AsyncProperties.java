@@ -0,0 +1,78 @@
+package com.prgrms.vouchermanagement.util;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * REST API 요청과 voucher export 를 servlet thread 대신 처리하는 executor 설정 모음
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "async")
+public class AsyncProperties {
+
+    private final int poolSize;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final int exportPoolSize;
+    private final int exportQueueCapacity;
+    private final Duration exportTimeout;
+
+    public AsyncProperties(@DefaultValue("16") int poolSize,
+                           @DefaultValue("200") int queueCapacity,
+                           @DefaultValue("10s") Duration timeout,
+                           @DefaultValue("4") int exportPoolSize,
+                           @DefaultValue("16") int exportQueueCapacity,
+                           @DefaultValue("10m") Duration exportTimeout) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.exportPoolSize = exportPoolSize;
+        this.exportQueueCapacity = exportQueueCapacity;
+        this.exportTimeout = exportTimeout;
+    }
+
+    /**
+     * 동시에 repository 작업을 실행하는 thread 수. connection pool 크기보다 크게 잡아도 connection 을 기다릴 뿐이다.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * 실행을 기다리는 요청의 최대 개수. 가득 차면 429 Too Many Requests 로 응답한다.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * 비동기 요청의 최대 처리 시간. 넘으면 503 Service Unavailable 로 응답한다.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 동시에 실행되는 export 의 수. export 는 오래 걸리므로 API 요청과 다른 thread 에서 실행한다.
+     */
+    public int getExportPoolSize() {
+        return exportPoolSize;
+    }
+
+    /**
+     * 실행을 기다리는 export 의 최대 개수. 가득 차면 429 Too Many Requests 로 응답한다.
+     */
+    public int getExportQueueCapacity() {
+        return exportQueueCapacity;
+    }
+
+    /**
+     * export 의 최대 처리 시간. 응답을 쓰기 시작한 뒤에 넘으면 응답이 중간에 끊긴다.
+     */
+    public Duration getExportTimeout() {
+        return exportTimeout;
+    }
+}
@@ -0,0 +1,53 @@
+package com.prgrms.vouchermanagement.util;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * id 를 cursor 로 사용하는 keyset 페이지.
+ * nextCursor 는 다음 페이지 조회 시 전달할 마지막 id 이며, 다음 페이지가 없으면 null 이다.
+ */
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final Long nextCursor;
+
+    private CursorPage(List<T> content, Long nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 알 수 있도록 size + 1 개까지 조회한 결과를 받아 size 개로 자른다.
+     */
+    public static <T> CursorPage<T> of(List<T> items, int size, Function<T, Long> idExtractor) {
+        if (items.size() <= size) {
+            return new CursorPage<>(items, null);
+        }
+
+        List<T> content = items.subList(0, size);
+        return new CursorPage<>(content, idExtractor.apply(content.get(size - 1)));
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 맞춘다.
+     */
+    public static int limitSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -2,6 +2,9 @@ package com.prgrms.vouchermanagement.util;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 @ConstructorBinding
 @ConfigurationProperties(prefix = "database")
@@ -10,11 +13,15 @@ public class DatabaseProperties {
     private final String url;
     private final String username;
     private final String password;
+    private final Pool pool;
+    private final Replica replica;
 
-    public DatabaseProperties(String url, String username, String password) {
+    public DatabaseProperties(String url, String username, String password, @DefaultValue Pool pool, Replica replica) {
         this.url = url;
         this.username = username;
         this.password = password;
+        this.pool = pool;
+        this.replica = replica;
     }
 
     public String getUrl() {
@@ -28,4 +35,147 @@ public class DatabaseProperties {
     public String getPassword() {
         return password;
     }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    /**
+     * 설정하지 않으면 null 이며, 모든 조회를 primary 에서 처리한다.
+     */
+    public Replica getReplica() {
+        return replica;
+    }
+
+    /**
+     * readOnly 트랜잭션이 사용하는 replica 접속 정보. pool 설정은 primary 와 같은 값을 사용한다.
+     */
+    public static class Replica {
+
+        private final String url;
+        private final String username;
+        private final String password;
+        private final Duration retryInterval;
+
+        public Replica(String url, String username, String password, @DefaultValue("5s") Duration retryInterval) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+            this.retryInterval = retryInterval;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        /**
+         * replica 에서 connection 을 얻지 못한 뒤 다시 시도하기까지 primary 를 사용하는 시간
+         */
+        public Duration getRetryInterval() {
+            return retryInterval;
+        }
+    }
+
+    /**
+     * HikariCP connection pool 과 MySQL driver 의 statement cache 설정
+     */
+    public static class Pool {
+
+        private final String name;
+        private final int maximumPoolSize;
+        private final int minimumIdle;
+        private final Duration connectionTimeout;
+        private final Duration idleTimeout;
+        private final Duration maxLifetime;
+        private final boolean cachePrepStmts;
+        private final int prepStmtCacheSize;
+        private final int prepStmtCacheSqlLimit;
+        private final boolean useServerPrepStmts;
+        private final boolean rewriteBatchedStatements;
+
+        public Pool(@DefaultValue("voucher-pool") String name,
+                    @DefaultValue("10") int maximumPoolSize,
+                    @DefaultValue("10") int minimumIdle,
+                    @DefaultValue("3s") Duration connectionTimeout,
+                    @DefaultValue("10m") Duration idleTimeout,
+                    @DefaultValue("30m") Duration maxLifetime,
+                    @DefaultValue("true") boolean cachePrepStmts,
+                    @DefaultValue("250") int prepStmtCacheSize,
+                    @DefaultValue("2048") int prepStmtCacheSqlLimit,
+                    @DefaultValue("true") boolean useServerPrepStmts,
+                    @DefaultValue("true") boolean rewriteBatchedStatements) {
+            this.name = name;
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeout = connectionTimeout;
+            this.idleTimeout = idleTimeout;
+            this.maxLifetime = maxLifetime;
+            this.cachePrepStmts = cachePrepStmts;
+            this.prepStmtCacheSize = prepStmtCacheSize;
+            this.prepStmtCacheSqlLimit = prepStmtCacheSqlLimit;
+            this.useServerPrepStmts = useServerPrepStmts;
+            this.rewriteBatchedStatements = rewriteBatchedStatements;
+        }
+
+        /**
+         * metrics 의 pool tag 로 사용된다.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 동시에 DB 를 사용하는 요청 스레드 수(Tomcat max threads)를 기준으로 정한다.
+         */
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public int getMinimumIdle() {
+            return minimumIdle;
+        }
+
+        /**
+         * pool 에서 connection 을 얻기 위해 기다리는 최대 시간
+         */
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public Duration getMaxLifetime() {
+            return maxLifetime;
+        }
+
+        public boolean isCachePrepStmts() {
+            return cachePrepStmts;
+        }
+
+        public int getPrepStmtCacheSize() {
+            return prepStmtCacheSize;
+        }
+
+        public int getPrepStmtCacheSqlLimit() {
+            return prepStmtCacheSqlLimit;
+        }
+
+        public boolean isUseServerPrepStmts() {
+            return useServerPrepStmts;
+        }
+
+        public boolean isRewriteBatchedStatements() {
+            return rewriteBatchedStatements;
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.prgrms.vouchermanagement.util;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 할인 가격 계산에 사용되는 설정 모음
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "discount")
+public class DiscountProperties {
+
+    private final int maxBatchSize;
+    private final int chunkSize;
+    private final int cacheMaximumSize;
+    private final Duration cacheTtl;
+
+    public DiscountProperties(@DefaultValue("100000") int maxBatchSize,
+                              @DefaultValue("4096") int chunkSize,
+                              @DefaultValue("100000") int cacheMaximumSize,
+                              @DefaultValue("60s") Duration cacheTtl) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("discount.chunkSize는 0보다 커야 합니다. : " + chunkSize);
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.chunkSize = chunkSize;
+        this.cacheMaximumSize = cacheMaximumSize;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * 한 번의 요청으로 계산할 수 있는 최대 가격 개수
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * 병렬로 계산할 때 하나의 작업이 맡는 가격 개수. 이보다 적은 요청은 요청 thread 에서 계산한다.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * customer 별 wallet 할인 정보를 캐시에 보관하는 최대 개수
+     */
+    public int getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    /**
+     * 캐시에 보관한 wallet 할인 정보의 유효 시간
+     */
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+}
@@ -14,12 +14,18 @@ public class FilePathProperties {
     private final String blackListFilePath;
     private final String baseDirectory;
     private final String sequenceStorePath;
+    private final String vouchersLogPath;
+    private final String vouchersSnapshotPath;
+    private final String vouchersMappedPath;
 
-    public FilePathProperties(String vouchersFilePath, String blackListFilePath, String baseDirectory, String sequenceStorePath) {
+    public FilePathProperties(String vouchersFilePath, String blackListFilePath, String baseDirectory, String sequenceStorePath, String vouchersLogPath, String vouchersSnapshotPath, String vouchersMappedPath) {
         this.vouchersFilePath = vouchersFilePath;
         this.blackListFilePath = blackListFilePath;
         this.baseDirectory = baseDirectory;
         this.sequenceStorePath = sequenceStorePath;
+        this.vouchersLogPath = vouchersLogPath;
+        this.vouchersSnapshotPath = vouchersSnapshotPath;
+        this.vouchersMappedPath = vouchersMappedPath;
     }
 
     public String getVouchersFilePath() {
@@ -30,6 +36,18 @@ public class FilePathProperties {
         return getFilePath(sequenceStorePath);
     }
 
+    public String getVouchersLogPath() {
+        return getFilePath(vouchersLogPath);
+    }
+
+    public String getVouchersSnapshotPath() {
+        return getFilePath(vouchersSnapshotPath);
+    }
+
+    public String getVouchersMappedPath() {
+        return getFilePath(vouchersMappedPath);
+    }
+
     public String getBlackListFilePath() {
         return getFilePath(blackListFilePath);
     }
@@ -0,0 +1,104 @@
+package com.prgrms.vouchermanagement.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime 을 DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 형식("yyyy-MM-ddTHH:mm:ss" 와 끝자리 0 을 뺀 소수점 아래 초)으로
+ * 전달받은 char[] 에 쓴다. 응답을 쓸 때 날짜마다 String 과 formatter 내부 객체를 만들지 않기 위해 사용한다.
+ * 0 ~ 9999 년은 직접 쓰며, 그 밖의 연도는 DateTimeFormatter 로 쓴다.
+ */
+public final class IsoDateTimes {
+
+    /**
+     * format 에 전달하는 buffer 의 최소 길이. 가장 긴 "+yyyyyyyyy-MM-ddTHH:mm:ss.SSSSSSSSS" 보다 길다.
+     */
+    public static final int BUFFER_SIZE = 40;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int MAX_YEAR = 9999;
+
+    private IsoDateTimes() {
+    }
+
+    /**
+     * @return buffer 에 쓴 길이
+     */
+    public static int format(LocalDateTime dateTime, char[] buffer) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > MAX_YEAR) {
+            return formatWithFormatter(dateTime, buffer);
+        }
+
+        int secondOfDay = dateTime.getHour() * 3600 + dateTime.getMinute() * 60 + dateTime.getSecond();
+        return write(year, dateTime.getMonthValue(), dateTime.getDayOfMonth(), secondOfDay, dateTime.getNano(), buffer);
+    }
+
+    /**
+     * UTC 기준 epoch millis 를 LocalDateTime 으로 바꾸지 않고 쓴다.
+     *
+     * @return buffer 에 쓴 길이
+     */
+    public static int format(long epochMillis, char[] buffer) {
+        long epochDay = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+        // epoch day 를 그레고리력 날짜로 바꾼다. 3월을 한 해의 시작으로 보고 400년 주기(146097일)로 계산한다.
+        long shiftedDay = epochDay + 719_468;
+        long era = Math.floorDiv(shiftedDay, 146_097);
+        int dayOfEra = (int) (shiftedDay - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > MAX_YEAR) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L), millisOfDay % 1000 * 1_000_000, ZoneOffset.UTC);
+            return formatWithFormatter(dateTime, buffer);
+        }
+
+        return write((int) year, month, day, millisOfDay / 1000, millisOfDay % 1000 * 1_000_000, buffer);
+    }
+
+    private static int write(int year, int month, int day, int secondOfDay, int nano, char[] buffer) {
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, secondOfDay / 3600, 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, secondOfDay / 60 % 60, 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, secondOfDay % 60, 2);
+
+        int length = 19;
+        if (nano > 0) {
+            // ISO_LOCAL_DATE_TIME 처럼 소수점 아래의 끝자리 0 은 쓰지 않는다.
+            buffer[length++] = '.';
+            writeDigits(buffer, length, nano, 9);
+            length += 9;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        return length;
+    }
+
+    private static int formatWithFormatter(LocalDateTime dateTime, char[] buffer) {
+        String formatted = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        formatted.getChars(0, formatted.length(), buffer, 0);
+        return formatted.length();
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
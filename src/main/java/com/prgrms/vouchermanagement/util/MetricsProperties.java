@@ -0,0 +1,36 @@
+package com.prgrms.vouchermanagement.util;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * service, repository 메서드 측정에 사용되는 설정 모음
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "metrics")
+public class MetricsProperties {
+
+    private final boolean enabled;
+    private final double[] percentiles;
+
+    public MetricsProperties(@DefaultValue("false") boolean enabled,
+                             @DefaultValue({"0.5", "0.95", "0.99"}) double[] percentiles) {
+        this.enabled = enabled;
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * false 이면 측정용 proxy 와 /metrics 를 등록하지 않는다.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메서드 실행 시간 timer 가 계산할 percentile 목록
+     */
+    public double[] getPercentiles() {
+        return percentiles;
+    }
+}
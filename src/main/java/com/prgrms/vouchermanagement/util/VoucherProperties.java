@@ -0,0 +1,52 @@
+package com.prgrms.vouchermanagement.util;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * voucher 처리에 사용되는 설정 모음
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "voucher")
+public class VoucherProperties {
+
+    private final int batchSize;
+    private final int cacheMaximumSize;
+    private final Duration cacheTtl;
+
+    public VoucherProperties(@DefaultValue("1000") int batchSize,
+                             @DefaultValue("10000") int cacheMaximumSize,
+                             @DefaultValue("60s") Duration cacheTtl) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("voucher.batchSize는 0보다 커야 합니다. : " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        this.cacheMaximumSize = cacheMaximumSize;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * 여러 voucher 를 저장할 때 한 번의 batch insert 로 보내는 최대 개수
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * voucherId 로 조회한 voucher 를 캐시에 보관하는 최대 개수
+     */
+    public int getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    /**
+     * 캐시에 보관한 voucher 의 유효 시간
+     */
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+}
@@ -27,9 +27,12 @@ public class FixedAmountVoucher implements Voucher, Serializable {
         return FixedAmountVoucher.of(null, discountPrice, createdAt);
     }
 
+    /**
+     * 할인 금액이 가격보다 크면 0 을 반환한다.
+     */
     @Override
     public long discount(long beforeDiscountPrice) {
-        return beforeDiscountPrice - discountPrice;
+        return Math.max(beforeDiscountPrice - discountPrice, 0);
     }
 
     @Override
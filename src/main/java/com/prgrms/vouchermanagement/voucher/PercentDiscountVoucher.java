@@ -29,7 +29,14 @@ public class PercentDiscountVoucher implements Voucher, Serializable {
 
     @Override
     public long discount(long beforeDiscountPrice) {
-        return beforeDiscountPrice * (discountPercentage / 100);
+        return beforeDiscountPrice - discountAmount(beforeDiscountPrice, discountPercentage);
+    }
+
+    /**
+     * 원 단위 미만은 버린다. price * percentage 가 overflow 되지 않도록 100 으로 먼저 나누어 계산한다.
+     */
+    public static long discountAmount(long price, long percentage) {
+        return price / 100 * percentage + price % 100 * percentage / 100;
     }
 
     @Override
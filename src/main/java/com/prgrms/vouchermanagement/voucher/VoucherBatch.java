@@ -0,0 +1,134 @@
+package com.prgrms.vouchermanagement.voucher;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 여러 voucher 를 필드별 배열에 나누어 담는 목록.
+ * repository 는 조회한 값을 Voucher 객체 없이 바로 채우고, serializer 는 배열에서 바로 읽으므로 voucher 마다 객체를 만들지 않는다.
+ *
+ * <pre>
+ * i 번째 voucher : voucherIds[i], typeCodes[i](VoucherType 의 order), amounts[i], createdEpochMillis[i](UTC 기준)
+ * </pre>
+ *
+ * createdAt 이 없는 voucher 의 createdEpochMillis 는 0 이며, millis 미만의 정밀도는 저장되지 않는다.
+ * JSON 으로는 VoucherResponse 목록과 같은 형식의 배열로 쓰인다.
+ */
+@JsonSerialize(using = VoucherBatchSerializer.class)
+public final class VoucherBatch {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] voucherIds;
+    private byte[] typeCodes;
+    private long[] amounts;
+    private long[] createdEpochMillis;
+    private int size;
+
+    public VoucherBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public VoucherBatch(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.voucherIds = new long[capacity];
+        this.typeCodes = new byte[capacity];
+        this.amounts = new long[capacity];
+        this.createdEpochMillis = new long[capacity];
+    }
+
+    public static VoucherBatch of(List<Voucher> vouchers) {
+        VoucherBatch voucherBatch = new VoucherBatch(vouchers.size());
+        vouchers.forEach(voucherBatch::add);
+        return voucherBatch;
+    }
+
+    public void add(long voucherId, byte typeCode, long amount, long createdEpochMillis) {
+        if (size == voucherIds.length) {
+            grow();
+        }
+
+        this.voucherIds[size] = voucherId;
+        this.typeCodes[size] = typeCode;
+        this.amounts[size] = amount;
+        this.createdEpochMillis[size] = createdEpochMillis;
+        size++;
+    }
+
+    /**
+     * voucherId 가 없는 voucher 는 0 으로 담긴다.
+     */
+    public void add(Voucher voucher) {
+        LocalDateTime createdAt = voucher.getCreatedAt();
+        add(voucher.getVoucherId() == null ? 0L : voucher.getVoucherId(),
+                (byte) VoucherType.getVoucherType(voucher).getOrder(),
+                voucher.getAmount(),
+                createdAt == null ? 0L : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    /**
+     * 배열은 그대로 두고 크기만 0 으로 만들어 다음 조회에 재사용한다.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getVoucherId(int index) {
+        checkIndex(index);
+        return voucherIds[index];
+    }
+
+    public byte getTypeCode(int index) {
+        checkIndex(index);
+        return typeCodes[index];
+    }
+
+    public VoucherType getVoucherType(int index) {
+        return VoucherType.getVoucherType(getTypeCode(index));
+    }
+
+    public long getAmount(int index) {
+        checkIndex(index);
+        return amounts[index];
+    }
+
+    public long getCreatedEpochMillis(int index) {
+        checkIndex(index);
+        return createdEpochMillis[index];
+    }
+
+    /**
+     * 화면에 보여주는 경우처럼 Voucher 가 필요할 때만 만든다.
+     */
+    public Voucher toVoucher(int index) {
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(getCreatedEpochMillis(index)), ZoneOffset.UTC);
+        return getVoucherType(index).constructor(getVoucherId(index), getAmount(index), createdAt);
+    }
+
+    private void grow() {
+        int capacity = voucherIds.length * 2;
+        voucherIds = Arrays.copyOf(voucherIds, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        createdEpochMillis = Arrays.copyOf(createdEpochMillis, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.prgrms.vouchermanagement.voucher;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.prgrms.vouchermanagement.util.IsoDateTimes;
+
+import java.io.IOException;
+
+/**
+ * VoucherBatch 를 {"voucherId", "amount", "voucherType", "createdAt"} 객체의 배열로 쓴다.
+ * createdAt 은 LocalDateTime 을 만들지 않고 epoch millis 에서 바로 ISO-8601 문자열(DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 형식)을
+ * 재사용하는 char[] 에 써넣는다. Spring Boot 의 ObjectMapper 는 기본적으로 LocalDateTime 을 이 형식으로 쓴다.
+ */
+public class VoucherBatchSerializer extends StdSerializer<VoucherBatch> {
+
+    public VoucherBatchSerializer() {
+        super(VoucherBatch.class);
+    }
+
+    @Override
+    public void serialize(VoucherBatch voucherBatch, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[IsoDateTimes.BUFFER_SIZE];
+
+        generator.writeStartArray(voucherBatch, voucherBatch.size());
+        for (int i = 0; i < voucherBatch.size(); i++) {
+            writeVoucher(generator, voucherBatch, i, buffer);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * index 번째 voucher 하나를 JSON 객체로 쓴다. 스트리밍 응답에서도 같은 형식으로 쓰기 위해 공개한다.
+     *
+     * @param buffer : createdAt 을 쓰는 데 사용하는 길이 IsoDateTimes.BUFFER_SIZE 이상의 배열
+     */
+    public static void writeVoucher(JsonGenerator generator, VoucherBatch voucherBatch, int index, char[] buffer) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("voucherId", voucherBatch.getVoucherId(index));
+        generator.writeNumberField("amount", voucherBatch.getAmount(index));
+        generator.writeStringField("voucherType", voucherBatch.getVoucherType(index).name());
+        generator.writeFieldName("createdAt");
+        generator.writeString(buffer, 0, IsoDateTimes.format(voucherBatch.getCreatedEpochMillis(index), buffer));
+        generator.writeEndObject();
+    }
+}
@@ -6,6 +6,11 @@ import java.util.Arrays;
 public enum VoucherType {
     FIXED_DISCOUNT(1, "fixed"), PERCENT_DISCOUNT(2, "percent");
 
+    /**
+     * order 를 index 로 하는 조회 테이블. VoucherBatch 처럼 voucher 마다 type 을 찾는 경우 stream 을 만들지 않도록 한다.
+     */
+    private static final VoucherType[] VOUCHER_TYPES_BY_ORDER = createVoucherTypesByOrder();
+
     private final int order;
     private final String description;
 
@@ -18,10 +23,10 @@ public enum VoucherType {
      * 메뉴에서 입력받은 voucher 번호와 일치하는 VoucherType 을 반환한다.
      */
     public static VoucherType getVoucherType(int order) throws IllegalArgumentException {
-        return Arrays.stream(VoucherType.values())
-                .filter(v -> v.order == order)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("order와 매칭되는 VoucherType이 없습니다."));
+        if (order < 0 || order >= VOUCHER_TYPES_BY_ORDER.length || VOUCHER_TYPES_BY_ORDER[order] == null) {
+            throw new IllegalArgumentException("order와 매칭되는 VoucherType이 없습니다.");
+        }
+        return VOUCHER_TYPES_BY_ORDER[order];
     }
 
     public static VoucherType getVoucherType(Voucher voucher)  throws IllegalArgumentException {
@@ -52,7 +57,20 @@ public enum VoucherType {
         return constructor(null, amount, createdAt);
     }
 
+    public int getOrder() {
+        return order;
+    }
+
     public String getDescription() {
         return description;
     }
+
+    private static VoucherType[] createVoucherTypesByOrder() {
+        int maxOrder = Arrays.stream(values()).mapToInt(VoucherType::getOrder).max().orElse(0);
+        VoucherType[] voucherTypes = new VoucherType[maxOrder + 1];
+        for (VoucherType voucherType : values()) {
+            voucherTypes[voucherType.order] = voucherType;
+        }
+        return voucherTypes;
+    }
 }
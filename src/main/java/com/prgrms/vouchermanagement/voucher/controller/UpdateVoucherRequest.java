@@ -0,0 +1,16 @@
+package com.prgrms.vouchermanagement.voucher.controller;
+
+public class UpdateVoucherRequest {
+    private long amount;
+
+    public UpdateVoucherRequest() {
+    }
+
+    public UpdateVoucherRequest(long amount) {
+        this.amount = amount;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+}
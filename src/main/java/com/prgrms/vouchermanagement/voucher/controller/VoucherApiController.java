@@ -1,100 +1,358 @@
 package com.prgrms.vouchermanagement.voucher.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.vouchermanagement.util.AsyncProperties;
+import com.prgrms.vouchermanagement.util.CursorPage;
+import com.prgrms.vouchermanagement.util.IsoDateTimes;
 import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+import com.prgrms.vouchermanagement.voucher.VoucherBatchSerializer;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
+import com.prgrms.vouchermanagement.voucher.repository.VoucherSearchCondition;
+import com.prgrms.vouchermanagement.voucher.service.VoucherCacheStats;
 import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import com.prgrms.vouchermanagement.voucher.service.VoucherVersion;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE;
 
+/**
+ * repository 를 사용하는 요청은 voucherApiExecutor 에서 실행하고 CompletableFuture 를 반환하므로 servlet thread 는 바로 반환된다.
+ * executor 의 대기열이 가득 차면 429 Too Many Requests 로, async.timeout 안에 끝나지 않으면 503 Service Unavailable 로 응답한다.
+ */
 @RestController
 @RequestMapping("/api/v1/vouchers")
 public class VoucherApiController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final String CSV_HEADER = "voucherId,voucherType,amount,createdAt";
+    private static final int CSV_LINE_CAPACITY = 128;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String XML_TAG_SUFFIX = "-xml";
+    private static final String WEAK_TAG_PREFIX = "W/";
+
     private final VoucherService voucherService;
+    private final ObjectMapper objectMapper;
+    private final Executor voucherApiExecutor;
+    private final AsyncTaskExecutor voucherExportExecutor;
+    private final AsyncProperties asyncProperties;
 
-    public VoucherApiController(VoucherService voucherService) {
+    public VoucherApiController(VoucherService voucherService, ObjectMapper objectMapper,
+                                @Qualifier("voucherApiExecutor") Executor voucherApiExecutor,
+                                @Qualifier("voucherExportExecutor") AsyncTaskExecutor voucherExportExecutor,
+                                AsyncProperties asyncProperties) {
         this.voucherService = voucherService;
+        this.objectMapper = objectMapper;
+        this.voucherApiExecutor = voucherApiExecutor;
+        this.voucherExportExecutor = voucherExportExecutor;
+        this.asyncProperties = asyncProperties;
     }
 
-    @GetMapping(value = "", produces = {APPLICATION_JSON_VALUE, APPLICATION_XML_VALUE})
-    public List<VoucherResponse> findVouchers(
+    /**
+     * 조회한 voucher 를 VoucherResponse 로 옮기지 않고 VoucherBatch 그대로 응답에 쓴다.
+     * If-None-Match 나 If-Modified-Since 가 목록의 현재 버전과 같으면 조회하지 않고 304 Not Modified 로 응답한다.
+     */
+    @GetMapping(value = "", produces = APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<VoucherBatch>> findVouchers(
             @RequestParam(required = false) Integer type,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
-            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate end
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate end,
+            @RequestParam(required = false) Long customerId,
+            @RequestHeader HttpHeaders requestHeaders
     ) {
+        VoucherSearchCondition condition = toSearchCondition(type, from, end, customerId);
+        return findVoucherList(requestHeaders, "", () -> voucherService.findVoucherBatch(condition));
+    }
 
-        // Type 조회
-        if (checkFindByType(type)) {
-            return getVoucherListByType(type);
-        }
-
-        // 기간 조회
-        if (checkFindByPeriod(from, end)) {
-            return getVoucherListByPeriod(from, end);
-        }
+    /**
+     * XML 은 XStream 으로 쓰므로 VoucherResponse 목록으로 옮겨 응답한다.
+     * 같은 버전이라도 JSON 과 다른 표현이므로 ETag 가 다르다.
+     */
+    @GetMapping(value = "", produces = APPLICATION_XML_VALUE)
+    public CompletableFuture<ResponseEntity<List<VoucherResponse>>> findVouchersXml(
+            @RequestParam(required = false) Integer type,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate end,
+            @RequestParam(required = false) Long customerId,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
+        VoucherSearchCondition condition = toSearchCondition(type, from, end, customerId);
+        return findVoucherList(requestHeaders, XML_TAG_SUFFIX, () -> VoucherResponse.fromList(voucherService.findVouchers(condition)));
+    }
 
-        // 전체 조회
-        return getAllVoucherList();
+    /**
+     * voucherId 를 cursor 로 사용하여 한 페이지씩 조회한다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다.
+     */
+    @GetMapping(value = "/page", produces = APPLICATION_JSON_VALUE)
+    public CompletableFuture<CursorPage<VoucherResponse>> findVoucherPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return supplyAsync(() -> voucherService.findVoucherPage(cursor, size).map(VoucherResponse::from));
     }
 
     @PostMapping(value = "", consumes = {APPLICATION_JSON_VALUE, APPLICATION_XML_VALUE}, produces = {APPLICATION_JSON_VALUE, APPLICATION_XML_VALUE})
-    public ResponseEntity<Long> addVoucher(@RequestBody CreateVoucherRequest customerRequest) {
-        Long voucherId = voucherService.addVoucher(customerRequest.getVoucherType(), customerRequest.getAmount());
-        return new ResponseEntity<>(voucherId, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<Long>> addVoucher(@RequestBody CreateVoucherRequest customerRequest) {
+        return supplyAsync(() -> {
+            Long voucherId = voucherService.addVoucher(customerRequest.getVoucherType(), customerRequest.getAmount());
+            return new ResponseEntity<>(voucherId, HttpStatus.CREATED);
+        });
+    }
+
+    /**
+     * voucher 의 amount 를 변경한다. voucher 와 목록의 ETag 가 바뀌므로 이전 ETag 로 조회하면 다시 조회된다.
+     */
+    @PatchMapping(value = "/{voucherId}", consumes = {APPLICATION_JSON_VALUE, APPLICATION_XML_VALUE})
+    public CompletableFuture<ResponseEntity<Object>> updateVoucherAmount(@PathVariable Long voucherId, @RequestBody UpdateVoucherRequest updateRequest) {
+        return supplyAsync(() -> {
+            voucherService.updateVoucherAmount(voucherId, updateRequest.getAmount());
+            return ResponseEntity.ok().build();
+        });
+    }
+
+    @PostMapping(value = "/batch", consumes = APPLICATION_JSON_VALUE, produces = {APPLICATION_JSON_VALUE, APPLICATION_XML_VALUE})
+    public CompletableFuture<ResponseEntity<List<Long>>> addVouchers(@RequestBody List<CreateVoucherRequest> voucherRequests) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Voucher> vouchers = voucherRequests.stream()
+                .map(voucherRequest -> voucherRequest.getVoucherType().constructor(voucherRequest.getAmount(), createdAt))
+                .collect(Collectors.toList());
+
+        return supplyAsync(() -> new ResponseEntity<>(voucherService.addVouchers(vouchers), HttpStatus.CREATED));
+    }
+
+    /**
+     * 모든 Voucher를 목록으로 모으지 않고 한 건씩 응답에 기록한다. format 은 ndjson(기본값) 또는 csv 이다.
+     * export 는 API 요청보다 오래 걸리므로 voucherExportExecutor 에서 async.exportTimeout 동안 실행된다.
+     *
+     * @throws ResponseStatusException : 지원하지 않는 format 인 경우 400 Bad Request 로 응답한다.
+     */
+    @GetMapping(value = "/export")
+    public WebAsyncTask<Void> exportVouchers(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) {
+        StreamingResponseBody body;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            response.setContentType(NDJSON.toString());
+            body = this::writeNdjson;
+        } else if ("csv".equalsIgnoreCase(format)) {
+            response.setContentType(CSV.toString());
+            body = this::writeCsv;
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 format입니다.");
+        }
+
+        return new WebAsyncTask<>(asyncProperties.getExportTimeout().toMillis(), voucherExportExecutor, () -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        });
     }
 
     @DeleteMapping(value = "/{voucherId}")
-    public ResponseEntity<Object> removeVoucher(@PathVariable Long voucherId) {
-        voucherService.removeVoucher(voucherId);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Object>> removeVoucher(@PathVariable Long voucherId) {
+        return supplyAsync(() -> {
+            voucherService.removeVoucher(voucherId);
+            return ResponseEntity.ok().build();
+        });
     }
 
+    @GetMapping(value = "/cache-stats", produces = APPLICATION_JSON_VALUE)
+    public VoucherCacheStats findCacheStats() {
+        return voucherService.getCacheStats();
+    }
+
+    /**
+     * If-None-Match 나 If-Modified-Since 가 voucher 의 현재 버전과 같으면 조회하지 않고 304 Not Modified 로 응답한다.
+     */
     @GetMapping(value = "/{voucherId}", produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<VoucherResponse> findById(@PathVariable Long voucherId) {
-        Optional<Voucher> optionalVoucher = voucherService.findVoucherById(voucherId);
+    public CompletableFuture<ResponseEntity<VoucherResponse>> findById(@PathVariable Long voucherId, @RequestHeader HttpHeaders requestHeaders) {
+        VoucherVersion version = voucherService.getVoucherVersion(voucherId);
+        String eTag = toETag(version, "");
+        if (isNotModified(requestHeaders, eTag, version.getLastModified())) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(version.getLastModified())
+                    .build());
+        }
 
-        if (optionalVoucher.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        return supplyAsync(() -> {
+            Optional<Voucher> optionalVoucher = voucherService.findVoucherById(voucherId);
+
+            if (optionalVoucher.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+
+            VoucherResponse voucherResponse = VoucherResponse.from(optionalVoucher.get());
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .lastModified(version.getLastModified())
+                    .body(voucherResponse);
+        });
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Object> handleTaskRejected() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<Object> handleTimeout() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    /**
+     * executor 의 대기열이 가득 차면 supplyAsync 에서 바로 TaskRejectedException 이 던져진다.
+     * export 와 timeout 이 다르므로 전역 async timeout 을 쓰지 않고 CompletableFuture 마다 timeout 을 건다.
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, voucherApiExecutor)
+                .orTimeout(asyncProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 전달되는 VoucherBatch 에서 바로 한 줄씩 쓰므로 voucher 마다 VoucherResponse 를 만들지 않는다.
+     */
+    private void writeNdjson(OutputStream outputStream) throws IOException {
+        char[] createdAtBuffer = new char[IsoDateTimes.BUFFER_SIZE];
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            voucherService.exportVoucherBatches(voucherBatch -> {
+                try {
+                    for (int i = 0; i < voucherBatch.size(); i++) {
+                        VoucherBatchSerializer.writeVoucher(generator, voucherBatch, i, createdAtBuffer);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+    }
+
+    /**
+     * 한 줄을 재사용하는 char[] 에 모아 쓴다. createdAt 은 JSON 응답과 같은 ISO-8601 형식이다.
+     */
+    private void writeCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
 
-        VoucherResponse voucherResponse = VoucherResponse.from(optionalVoucher.get());
-        return new ResponseEntity<>(voucherResponse, HttpStatus.OK);
+        StringBuilder line = new StringBuilder(CSV_LINE_CAPACITY);
+        char[] lineBuffer = new char[CSV_LINE_CAPACITY];
+        char[] createdAtBuffer = new char[IsoDateTimes.BUFFER_SIZE];
+
+        try {
+            voucherService.exportVoucherBatches(voucherBatch -> {
+                try {
+                    for (int i = 0; i < voucherBatch.size(); i++) {
+                        int createdAtLength = IsoDateTimes.format(voucherBatch.getCreatedEpochMillis(i), createdAtBuffer);
+                        line.setLength(0);
+                        line.append(voucherBatch.getVoucherId(i)).append(',')
+                                .append(voucherBatch.getVoucherType(i).name()).append(',')
+                                .append(voucherBatch.getAmount(i)).append(',')
+                                .append(createdAtBuffer, 0, createdAtLength).append('\n');
+
+                        line.getChars(0, line.length(), lineBuffer, 0);
+                        writer.write(lineBuffer, 0, line.length());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
     }
 
-    private boolean checkFindByPeriod(LocalDate from, LocalDate end) {
-        return from != null && end != null;
+    /**
+     * 버전은 조회 전에 읽는다. 조회 중에 voucher 가 변경되면 응답은 새 값이지만 ETag 는 이전 버전이므로, 다음 요청에서 다시 조회된다.
+     */
+    private <T> CompletableFuture<ResponseEntity<T>> findVoucherList(HttpHeaders requestHeaders, String tagSuffix, Supplier<T> voucherListSupplier) {
+        VoucherVersion version = voucherService.getVoucherListVersion();
+        String eTag = toETag(version, tagSuffix);
+        if (isNotModified(requestHeaders, eTag, version.getLastModified())) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(version.getLastModified())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build());
+        }
+
+        return supplyAsync(() -> ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(version.getLastModified())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(voucherListSupplier.get()));
     }
 
-    private boolean checkFindByType(Integer type) {
-        return type != null;
+    private String toETag(VoucherVersion version, String tagSuffix) {
+        return "\"" + version.getTag() + tagSuffix + "\"";
     }
 
-    private List<VoucherResponse> getVoucherListByType(Integer type) {
-        List<Voucher> vouchers = voucherService.findVoucherByType(VoucherType.getVoucherType(type));
-        return VoucherResponse.fromList(vouchers);
+    /**
+     * If-None-Match 가 있으면 If-Modified-Since 는 무시한다. If-None-Match 는 weak 비교이므로 W/ 는 떼고 비교한다.
+     * Last-Modified 는 초 단위로 전달되므로 초 단위로 비교한다.
+     */
+    private boolean isNotModified(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream()
+                    .map(tag -> tag.startsWith(WEAK_TAG_PREFIX) ? tag.substring(WEAK_TAG_PREFIX.length()) : tag)
+                    .anyMatch(eTag::equals);
+        }
+
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
     }
 
-    private List<VoucherResponse> getAllVoucherList() {
-        List<Voucher> vouchers = voucherService.findAllVouchers();
-        return VoucherResponse.fromList(vouchers);
+    private VoucherSearchCondition toSearchCondition(Integer type, LocalDate from, LocalDate end, Long customerId) {
+        // 전달된 조건을 모두 결합하여 조회하고, 조건이 없으면 전체 조회한다.
+        VoucherType voucherType = type == null ? null : VoucherType.getVoucherType(type);
+        LocalDateTime fromLocalDateTime = checkFindByPeriod(from, end) ? LocalDateTime.of(from, LocalTime.of(0, 0)) : null;
+        LocalDateTime endLocalDateTime = checkFindByPeriod(from, end) ? LocalDateTime.of(end, LocalTime.of(23, 59)) : null;
+
+        return VoucherSearchCondition.of(null, voucherType, fromLocalDateTime, endLocalDateTime, customerId);
     }
 
-    private List<VoucherResponse> getVoucherListByPeriod(LocalDate from, LocalDate end) {
-        LocalDateTime fromLocalDateTime = LocalDateTime.of(from, LocalTime.of(0, 0));
-        LocalDateTime endLocalDateTime = LocalDateTime.of(end, LocalTime.of(23, 59));
-        List<Voucher> vouchers = voucherService.findVoucherByPeriod(fromLocalDateTime, endLocalDateTime);
-        return VoucherResponse.fromList(vouchers);
+    private boolean checkFindByPeriod(LocalDate from, LocalDate end) {
+        return from != null && end != null;
     }
 }
@@ -1,17 +1,17 @@
 package com.prgrms.vouchermanagement.voucher.controller;
 
-import com.prgrms.vouchermanagement.customer.Customer;
 import com.prgrms.vouchermanagement.customer.CustomerResponse;
-import com.prgrms.vouchermanagement.customer.CustomerService;
+import com.prgrms.vouchermanagement.util.CursorPage;
 import com.prgrms.vouchermanagement.voucher.Voucher;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import com.prgrms.vouchermanagement.wallet.PortfolioService;
+import com.prgrms.vouchermanagement.wallet.VoucherHolders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 import java.util.Optional;
 
 @Controller
@@ -19,33 +19,37 @@ import java.util.Optional;
 public class VoucherController {
 
     private final VoucherService voucherService;
-    private final CustomerService customerService;
+    private final PortfolioService portfolioService;
 
-    public VoucherController(VoucherService voucherService, CustomerService customerService) {
+    public VoucherController(VoucherService voucherService, PortfolioService portfolioService) {
         this.voucherService = voucherService;
-        this.customerService = customerService;
+        this.portfolioService = portfolioService;
     }
 
     @GetMapping(value = "")
-    public String vouchers(Model model) {
-        List<Voucher> vouchers = voucherService.findAllVouchers();
-        model.addAttribute("vouchers", VoucherResponse.fromList(vouchers));
+    public String vouchers(@RequestParam(required = false) Long cursor,
+                           @RequestParam(defaultValue = "20") int size,
+                           Model model) {
+        CursorPage<Voucher> voucherPage = voucherService.findVoucherPage(cursor, size);
+        model.addAttribute("vouchers", VoucherResponse.fromList(voucherPage.getContent()));
+        model.addAttribute("cursor", cursor);
+        model.addAttribute("nextCursor", voucherPage.getNextCursor());
+        model.addAttribute("size", CursorPage.limitSize(size));
         return "voucher/vouchers";
     }
 
     @GetMapping(value = "/{voucherId}")
     public String findVoucher(@PathVariable Long voucherId, Model model) {
-        Optional<Voucher> findVoucher = voucherService.findVoucherById(voucherId);
-        List<Customer> customers = customerService.findCustomerByVoucher(voucherId);
+        Optional<VoucherHolders> optionalVoucherHolders = portfolioService.findVoucherHolders(voucherId);
 
-        if (findVoucher.isEmpty()) {
+        if (optionalVoucherHolders.isEmpty()) {
             return "error/404";
         }
 
-        VoucherResponse voucherResponse = VoucherResponse.from(findVoucher.get());
+        VoucherHolders voucherHolders = optionalVoucherHolders.get();
         model.addAttribute("voucherTypes", VoucherType.values());
-        model.addAttribute("voucher", voucherResponse);
-        model.addAttribute("customers", CustomerResponse.fromList(customers));
+        model.addAttribute("voucher", VoucherResponse.from(voucherHolders.getVoucher()));
+        model.addAttribute("customers", CustomerResponse.fromList(voucherHolders.getCustomers()));
         return "voucher/voucher";
     }
 
@@ -1,5 +1,6 @@
 package com.prgrms.vouchermanagement.voucher.controller;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.prgrms.vouchermanagement.voucher.Voucher;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@JsonSerialize(using = VoucherResponseSerializer.class)
 public class VoucherResponse {
     private Long voucherId;
     private long amount;
@@ -0,0 +1,48 @@
+package com.prgrms.vouchermanagement.voucher.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.prgrms.vouchermanagement.util.IsoDateTimes;
+
+import java.io.IOException;
+
+/**
+ * VoucherResponse 를 getter 를 reflection 으로 찾지 않고 필드 순서대로 바로 쓴다.
+ * null 인 필드는 기본 ObjectMapper 와 같이 null 로 쓰며, createdAt 은 IsoDateTimes 로 String 을 만들지 않고 쓴다.
+ */
+public class VoucherResponseSerializer extends StdSerializer<VoucherResponse> {
+
+    public VoucherResponseSerializer() {
+        super(VoucherResponse.class);
+    }
+
+    @Override
+    public void serialize(VoucherResponse voucherResponse, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(voucherResponse);
+
+        if (voucherResponse.getVoucherId() == null) {
+            generator.writeNullField("voucherId");
+        } else {
+            generator.writeNumberField("voucherId", voucherResponse.getVoucherId());
+        }
+
+        generator.writeNumberField("amount", voucherResponse.getAmount());
+
+        if (voucherResponse.getVoucherType() == null) {
+            generator.writeNullField("voucherType");
+        } else {
+            generator.writeStringField("voucherType", voucherResponse.getVoucherType().name());
+        }
+
+        generator.writeFieldName("createdAt");
+        if (voucherResponse.getCreatedAt() == null) {
+            generator.writeNull();
+        } else {
+            char[] buffer = new char[IsoDateTimes.BUFFER_SIZE];
+            generator.writeString(buffer, 0, IsoDateTimes.format(voucherResponse.getCreatedAt(), buffer));
+        }
+
+        generator.writeEndObject();
+    }
+}
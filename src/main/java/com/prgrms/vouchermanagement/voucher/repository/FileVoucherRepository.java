@@ -6,46 +6,93 @@ import com.prgrms.vouchermanagement.voucher.VoucherType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.io.*;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
- * 직렬화를 사용하여 voucher 리스트를 저장하고 조회한다.
+ * 변경 연산은 append-only 로그(VoucherOperationLog)에 기록하고,
+ * 로그가 일정 크기 이상 쌓이면 바이너리 snapshot(VoucherSnapshot)으로 압축한다.
+ * 재시작 시 snapshot 을 읽은 뒤 로그에 남은 연산만 다시 적용한다.
+ * save, update, remove 는 fsync 전에 반환되며 로그는 FLUSH_INTERVAL_MILLIS 마다 fsync 되므로,
+ * OS 가 비정상 종료되면 마지막 fsync 이후 최대 FLUSH_INTERVAL_MILLIS 동안의 변경이 유실될 수 있다.
  */
 @Repository
 @Profile("file")
 public class FileVoucherRepository implements VoucherRepository {
 
+    private static final long FLUSH_INTERVAL_MILLIS = 100L;
+    private static final long COMPACTION_THRESHOLD = 10_000L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
-    private Map<Long, Voucher> store;
+    private final ConcurrentNavigableMap<Long, Voucher> store = new ConcurrentSkipListMap<>();
     private long sequence;
     private final FilePathProperties filePathProperties;
+    private VoucherOperationLog operationLog;
+    private ScheduledExecutorService flushScheduler;
 
     public FileVoucherRepository(FilePathProperties filePathProperties) {
         this.filePathProperties = filePathProperties;
     }
 
     @Override
-    public Long save(Voucher voucher) {
+    public synchronized Long save(Voucher voucher) {
         if (voucher == null) {
             return -1L;
         }
 
-        Long voucherId = ++sequence;
+        Long voucherId = sequence + 1;
+        appendLog(() -> operationLog.appendSave(voucherId, voucher));
+        sequence = voucherId;
         store.put(voucherId, voucher);
         return voucherId;
     }
 
+    /**
+     * 한 번의 락 안에서 로그에 이어서 기록하여 voucherId 가 연속으로 부여되도록 한다.
+     */
+    @Override
+    public synchronized List<Long> saveAll(List<Voucher> vouchers) {
+        List<Long> voucherIds = new ArrayList<>(vouchers.size());
+        for (Voucher voucher : vouchers) {
+            voucherIds.add(save(voucher));
+        }
+        return voucherIds;
+    }
+
     @Override
     public List<Voucher> findAll() {
         return new ArrayList<>(store.values());
     }
 
+    /**
+     * 저장된 voucher 에는 voucherId 가 없을 수 있으므로 조회한 voucherId 를 채운 voucher 를 반환한다.
+     */
+    @Override
+    public List<Voucher> findPage(Long cursor, int limit) {
+        Map<Long, Voucher> page = cursor == null ? store : store.tailMap(cursor, false);
+
+        return page.entrySet().stream()
+                .limit(limit)
+                .map(entry -> VoucherType.getVoucherType(entry.getValue()).constructor(entry.getKey(), entry.getValue().getAmount(), entry.getValue().getCreatedAt()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Voucher> findById(Long voucherId) {
         if (voucherId == null) {
@@ -56,53 +103,122 @@ public class FileVoucherRepository implements VoucherRepository {
     }
 
     @Override
-    public void update(Voucher voucher) {
-        if (voucher == null) {
+    public synchronized void update(Voucher voucher) {
+        if (voucher == null || voucher.getVoucherId() == null) {
             return;
         }
 
         if (store.containsKey(voucher.getVoucherId())) {
+            appendLog(() -> operationLog.appendUpdate(voucher.getVoucherId(), voucher));
             store.put(voucher.getVoucherId(), voucher);
         }
     }
 
     @Override
-    public void remove(Long voucherId) {
-        if (voucherId == null) {
-            return;
+    public boolean existsById(Long voucherId) {
+        return voucherId != null && store.containsKey(voucherId);
+    }
+
+    @Override
+    public synchronized boolean remove(Long voucherId) {
+        if (voucherId == null || !store.containsKey(voucherId)) {
+            return false;
         }
 
+        appendLog(() -> operationLog.appendRemove(voucherId));
         store.remove(voucherId);
+        return true;
     }
 
     @PostConstruct
-    private void init() {
-        String vouchersFilePath = filePathProperties.getVouchersFilePath();
+    void init() {
+        // 이전 버전에서 별도 파일로 저장하던 sequence 는 로그의 sequence 보다 작을 수 없으므로 하한값으로만 사용한다.
         sequence = getSequence();
-        store = getVoucherStoreMap(vouchersFilePath);
+
+        try {
+            migrateLegacyVoucherFile();
+            sequence = Math.max(sequence, VoucherSnapshot.read(getSnapshotPath(), store));
+
+            operationLog = new VoucherOperationLog(Paths.get(filePathProperties.getVouchersLogPath()));
+            sequence = Math.max(sequence, operationLog.replay(store));
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to load vouchers", e);
+        }
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flushAndCompact, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * 진행 중인 flushAndCompact 가 끝나기를 SHUTDOWN_TIMEOUT_MILLIS 동안 기다린 뒤,
+     * compact 와 같은 lock 을 잡고 남은 로그를 fsync 하고 닫는다.
+     */
     @PreDestroy
-    private void destroy() {
-        storeVoucherMap();
-        storeSequence();
-    }
-
-    private Map<Long, Voucher> getVoucherStoreMap(String vouchersFilePath) {
-        try (
-                FileInputStream fis = new FileInputStream(vouchersFilePath);
-                BufferedInputStream bis = new BufferedInputStream(fis);
-                ObjectInputStream ois = new ObjectInputStream(bis);
-        ) {
-            return (Map<Long, Voucher>) ois.readObject();
+    void destroy() {
+        flushScheduler.shutdown();
+
+        try {
+            if (!flushScheduler.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("voucher-log-flusher did not terminate in {} ms", SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            try {
+                operationLog.flush();
+                operationLog.close();
+            } catch (IOException e) {
+                log.error("failed to close {}", filePathProperties.getVouchersLogPath(), e);
+            }
+        }
+    }
+
+    /**
+     * 쌓인 로그 레코드를 한 번의 fsync 로 디스크에 반영하고, 로그가 임계치를 넘으면 snapshot 으로 압축한다.
+     */
+    private void flushAndCompact() {
+        try {
+            operationLog.flush();
+
+            if (operationLog.getRecordCount() >= COMPACTION_THRESHOLD) {
+                compact();
+            }
         } catch (IOException e) {
-            log.error("failed to create or find {}", vouchersFilePath, e);
-        } catch (ClassNotFoundException e) {
-            e.printStackTrace();
+            log.error("failed to flush {}", filePathProperties.getVouchersLogPath(), e);
         }
+    }
+
+    private synchronized void compact() throws IOException {
+        VoucherSnapshot.write(getSnapshotPath(), store, sequence);
+        operationLog.reset(sequence);
+    }
+
+    private void migrateLegacyVoucherFile() throws IOException {
+        String vouchersFilePath = filePathProperties.getVouchersFilePath();
+        long migratedCount = LegacyVoucherSnapshotMigrator.migrate(Paths.get(vouchersFilePath), getSnapshotPath(), sequence);
+
+        if (migratedCount >= 0) {
+            log.info("migrated {} vouchers from {}", migratedCount, vouchersFilePath);
+        }
+    }
+
+    private Path getSnapshotPath() {
+        return Paths.get(filePathProperties.getVouchersSnapshotPath());
+    }
 
-        //파일을 읽는데 실패한 경우 빈 리스트로 초기화
-        return new HashMap<>();
+    private void appendLog(LogAppender appender) {
+        try {
+            appender.append();
+        } catch (IOException e) {
+            log.error("failed to append {}", filePathProperties.getVouchersLogPath(), e);
+            throw new DataAccessResourceFailureException("failed to append voucher log", e);
+        }
     }
 
     private long getSequence() {
@@ -115,45 +231,39 @@ public class FileVoucherRepository implements VoucherRepository {
             }
 
             return Long.parseLong(sb.toString());
-        } catch (IOException e) {
+        } catch (IOException | NumberFormatException e) {
             return 0L;
         }
     }
 
-    private void storeVoucherMap() {
-        String vouchersFilePath = filePathProperties.getVouchersFilePath();
-        try (
-                FileOutputStream fos = new FileOutputStream(vouchersFilePath);
-                BufferedOutputStream bos = new BufferedOutputStream(fos);
-                ObjectOutputStream oos = new ObjectOutputStream(bos);
-        ) {
-            oos.writeObject(store);
-        } catch (IOException e) {
-            log.error("failed to create or find {}", vouchersFilePath, e);
-        }
-    }
-
-    private void storeSequence() {
-        String sequenceStorePath = filePathProperties.getSequenceStorePath();
-        try (FileWriter fw = new FileWriter(sequenceStorePath, false)) {
-            fw.write(String.valueOf(sequence));
-        } catch (IOException e) {
-            log.error("failed to create or find {}", sequenceStorePath, e);
-        }
+    @FunctionalInterface
+    private interface LogAppender {
+        void append() throws IOException;
     }
 
     @Override
     public List<Voucher> findByType(VoucherType voucherType) {
-        return null;
+        return store.values().stream()
+                .filter(voucher -> VoucherType.getVoucherType(voucher) == voucherType)
+                .collect(Collectors.toList());
     }
 
     @Override
     public List<Voucher> findByPeriod(LocalDateTime from, LocalDateTime end) {
-        return null;
+        if (from == null || end == null) {
+            return Collections.emptyList();
+        }
+
+        return store.values().stream()
+                .filter(voucher -> voucher.getCreatedAt() != null && !voucher.getCreatedAt().isBefore(from) && !voucher.getCreatedAt().isAfter(end))
+                .collect(Collectors.toList());
     }
 
+    /**
+     * file 프로파일에는 wallet 저장소가 없으므로 항상 빈 리스트를 반환한다.
+     */
     @Override
     public List<Voucher> findVoucherByCustomer(Long customerId) {
-        return null;
+        return Collections.emptyList();
     }
 }
@@ -1,10 +1,14 @@
 package com.prgrms.vouchermanagement.voucher.repository;
 
 import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -12,8 +16,13 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.prgrms.vouchermanagement.voucher.repository.SelectCondition.*;
 
@@ -22,8 +31,25 @@ import static com.prgrms.vouchermanagement.voucher.repository.SelectCondition.*;
 public class JdbcVoucherRepository implements VoucherRepository {
 
     public static final String INSERT_SQL = "INSERT INTO voucher(voucher_type, amount, created_at) VALUES (:voucherType, :amount, :createdAt)";
+    public static final String BATCH_INSERT_SQL = "INSERT INTO voucher(voucher_type, amount, created_at) VALUES (?, ?, ?)";
     public static final String UPDATE_SQL = "UPDATE voucher SET amount=:amount WHERE voucher_id=:voucherId";;
-    public static final String SELECT_BY_CUSTOMER = "SELECT v.voucher_id, v.voucher_type ,v.amount, v.created_at FROM voucher_wallet w INNER JOIN voucher v ON v.voucher_id = w.voucher_id WHERE w.customer_id=:customerId";
+    public static final String SELECT_ALL_SQL = "SELECT voucher_id, voucher_type, amount, created_at FROM voucher";
+    public static final String EXISTS_BY_ID_SQL = "SELECT 1 FROM voucher WHERE voucher_id = :voucherId LIMIT 1";
+    public static final String SELECT_EXISTING_IDS_SQL = "SELECT voucher_id FROM voucher WHERE voucher_id IN (:voucherIds)";
+    public static final String DELETE_BY_ID_SQL = "DELETE FROM voucher WHERE voucher_id = :voucherId";
+    public static final String SELECT_BY_CUSTOMERS_SQL = "SELECT w.customer_id, v.voucher_id, v.voucher_type, v.amount, v.created_at FROM voucher v"
+            + " INNER JOIN voucher_wallet w ON w.voucher_id = v.voucher_id WHERE w.customer_id IN (:customerIds)";
+    public static final String SELECT_PAGE_SQL = "SELECT voucher_id, voucher_type, amount, created_at FROM voucher WHERE voucher_id > :cursor ORDER BY voucher_id LIMIT :limit";
+
+    private static final String SELECT_VOUCHER_SQL = "SELECT v.voucher_id, v.voucher_type, v.amount, v.created_at FROM voucher v";
+    private static final String JOIN_WALLET_SQL = " INNER JOIN voucher_wallet w ON w.voucher_id = v.voucher_id";
+    private static final int STREAMING_FETCH_SIZE = 1000;
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    /**
+     * SelectCondition 조합(ordinal 비트마스크)별 조회 쿼리. 클래스 로딩 시 한 번만 만든다.
+     */
+    private static final String[] SELECT_SQL_BY_CONDITIONS = buildSelectQueries();
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
@@ -38,15 +64,100 @@ public class JdbcVoucherRepository implements VoucherRepository {
         return keyHolder.getKey().longValue();
     }
 
+    /**
+     * 하나의 PreparedStatement 로 batch insert 하고 생성된 key 를 저장 순서대로 반환한다.
+     * NamedParameterJdbcTemplate 은 batchUpdate 에서 KeyHolder 를 지원하지 않으므로 JdbcTemplate 으로 직접 실행한다.
+     */
+    @Override
+    public List<Long> saveAll(List<Voucher> vouchers) throws DataAccessException {
+        if (vouchers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        PreparedStatementCreator statementCreator = connection -> connection.prepareStatement(BATCH_INSERT_SQL, new String[]{"voucher_id"});
+        PreparedStatementCallback<List<Long>> batchInsertCallback = preparedStatement -> {
+            for (Voucher voucher : vouchers) {
+                preparedStatement.setString(1, VoucherType.getVoucherType(voucher).toString());
+                preparedStatement.setLong(2, voucher.getAmount());
+                preparedStatement.setTimestamp(3, voucher.getCreatedAt() == null ? null : Timestamp.valueOf(voucher.getCreatedAt()));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+
+            List<Long> voucherIds = new ArrayList<>(vouchers.size());
+            try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                while (generatedKeys.next()) {
+                    voucherIds.add(generatedKeys.getLong(1));
+                }
+            }
+            return voucherIds;
+        };
+
+        return jdbcTemplate.getJdbcTemplate().execute(statementCreator, batchInsertCallback);
+    }
+
     @Override
     public List<Voucher> findAll() throws DataAccessException {
-        return jdbcTemplate.query(selectQueryBuilder(), voucherRowMapper);
+        return jdbcTemplate.query(SELECT_ALL_SQL, voucherRowMapper);
+    }
+
+    /**
+     * forward-only, read-only 커서로 fetch size 만큼씩 가져오며 한 행씩 전달한다.
+     * MySQL 에서는 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 가져온다.
+     */
+    @Override
+    public void forEachVoucher(Consumer<Voucher> voucherConsumer) throws DataAccessException {
+        RowCallbackHandler rowCallbackHandler = resultSet -> voucherConsumer.accept(voucherRowMapper.mapRow(resultSet, resultSet.getRow()));
+
+        jdbcTemplate.getJdbcTemplate().query(streamingStatementCreator(), rowCallbackHandler);
+    }
+
+    /**
+     * 행을 Voucher 로 매핑하지 않고 컬럼 값을 바로 VoucherBatch 에 담는다.
+     */
+    @Override
+    public VoucherBatch findAllBatch() throws DataAccessException {
+        return jdbcTemplate.query(SELECT_ALL_SQL, resultSet -> {
+            VoucherBatch voucherBatch = new VoucherBatch();
+            while (resultSet.next()) {
+                addRow(resultSet, voucherBatch);
+            }
+            return voucherBatch;
+        });
+    }
+
+    /**
+     * forEachVoucher 와 같은 커서로 읽으며, 행을 Voucher 로 매핑하지 않고 batchSize 개씩 VoucherBatch 에 담아 전달한다.
+     */
+    @Override
+    public void forEachBatch(int batchSize, Consumer<VoucherBatch> batchConsumer) throws DataAccessException {
+        VoucherBatch voucherBatch = new VoucherBatch(batchSize);
+        RowCallbackHandler rowCallbackHandler = resultSet -> {
+            addRow(resultSet, voucherBatch);
+            if (voucherBatch.size() == batchSize) {
+                batchConsumer.accept(voucherBatch);
+                voucherBatch.clear();
+            }
+        };
+
+        jdbcTemplate.getJdbcTemplate().query(streamingStatementCreator(), rowCallbackHandler);
+        if (!voucherBatch.isEmpty()) {
+            batchConsumer.accept(voucherBatch);
+        }
+    }
+
+    @Override
+    public List<Voucher> findPage(Long cursor, int limit) throws DataAccessException {
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("cursor", cursor == null ? 0L : cursor)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_PAGE_SQL, parameterSource, voucherRowMapper);
     }
 
     @Override
     public Optional<Voucher> findById(Long voucherId) throws DataAccessException {
         try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(selectQueryBuilder(ID), Collections.singletonMap("voucherId", voucherId), voucherRowMapper));
+            return Optional.ofNullable(jdbcTemplate.queryForObject(selectQuery(EnumSet.of(ID)), Collections.singletonMap("voucherId", voucherId), voucherRowMapper));
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
@@ -54,7 +165,7 @@ public class JdbcVoucherRepository implements VoucherRepository {
 
     @Override
     public List<Voucher> findByType(VoucherType voucherType) throws DataAccessException {
-        return jdbcTemplate.query(selectQueryBuilder(TYPE), Collections.singletonMap("voucherType", voucherType.toString()), voucherRowMapper);
+        return jdbcTemplate.query(selectQuery(EnumSet.of(TYPE)), Collections.singletonMap("voucherType", voucherType.toString()), voucherRowMapper);
     }
 
     @Override
@@ -62,56 +173,144 @@ public class JdbcVoucherRepository implements VoucherRepository {
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("from", from);
         paramMap.put("end", end);
-        return jdbcTemplate.query(selectQueryBuilder(PERIOD), paramMap, voucherRowMapper);
+        return jdbcTemplate.query(selectQuery(EnumSet.of(PERIOD)), paramMap, voucherRowMapper);
     }
 
     @Override
     public List<Voucher> findVoucherByCustomer(Long customerId) throws DataAccessException {
-        return jdbcTemplate.query(SELECT_BY_CUSTOMER,
+        return jdbcTemplate.query(selectQuery(EnumSet.of(CUSTOMER)),
                 Collections.singletonMap("customerId", customerId),
                 voucherRowMapper);
     }
 
+    /**
+     * IN 절의 크기가 너무 커지지 않도록 IN_CLAUSE_SIZE 명씩 나누어 조회한다.
+     */
+    @Override
+    public Map<Long, List<Voucher>> findVoucherByCustomers(Collection<Long> customerIds) throws DataAccessException {
+        List<Long> ids = new ArrayList<>(customerIds);
+        Map<Long, List<Voucher>> vouchersByCustomer = new HashMap<>();
+        RowCallbackHandler rowCallbackHandler = resultSet -> vouchersByCustomer
+                .computeIfAbsent(resultSet.getLong("customer_id"), customerId -> new ArrayList<>())
+                .add(voucherRowMapper.mapRow(resultSet, resultSet.getRow()));
+
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            jdbcTemplate.query(SELECT_BY_CUSTOMERS_SQL, Collections.singletonMap("customerIds", chunk), rowCallbackHandler);
+        }
+        return vouchersByCustomer;
+    }
+
+    /**
+     * 전달받은 조건을 모두 AND 로 결합한 하나의 쿼리로 조회한다.
+     */
+    @Override
+    public List<Voucher> findByCondition(VoucherSearchCondition condition) throws DataAccessException {
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("voucherId", condition.getVoucherId())
+                .addValue("voucherType", condition.getVoucherType() == null ? null : condition.getVoucherType().toString())
+                .addValue("from", condition.getFrom())
+                .addValue("end", condition.getEnd())
+                .addValue("customerId", condition.getCustomerId());
+        return jdbcTemplate.query(selectQuery(condition.getSelectConditions()), parameterSource, voucherRowMapper);
+    }
+
     @Override
     public void update(Voucher voucher) throws DataAccessException {
         jdbcTemplate.update(UPDATE_SQL, toParameterSource(voucher));
     }
 
+    /**
+     * 행을 읽어 매핑하지 않고 존재 여부만 확인한다.
+     */
+    @Override
+    public boolean existsById(Long voucherId) throws DataAccessException {
+        if (voucherId == null) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(jdbcTemplate.query(EXISTS_BY_ID_SQL, Collections.singletonMap("voucherId", voucherId), ResultSet::next));
+    }
+
+    /**
+     * IN 절의 크기가 너무 커지지 않도록 IN_CLAUSE_SIZE 개씩 나누어 조회한다.
+     */
     @Override
-    public void remove(Long voucherId) throws DataAccessException {
-        jdbcTemplate.update("DELETE FROM voucher WHERE voucher_id = :voucherId", Collections.singletonMap("voucherId", voucherId));
+    public Set<Long> existingIds(Collection<Long> voucherIds) throws DataAccessException {
+        List<Long> ids = new ArrayList<>(voucherIds);
+        Set<Long> existingIds = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+            existingIds.addAll(jdbcTemplate.queryForList(SELECT_EXISTING_IDS_SQL, Collections.singletonMap("voucherIds", chunk), Long.class));
+        }
+        return existingIds;
     }
 
-    private String selectQueryBuilder(SelectCondition ...conditions) {
-        StringBuilder builder = new StringBuilder("SELECT * FROM voucher");
+    /**
+     * 존재 여부를 따로 조회하지 않고 삭제된 행 수로 판단한다.
+     */
+    @Override
+    public boolean remove(Long voucherId) throws DataAccessException {
+        return jdbcTemplate.update(DELETE_BY_ID_SQL, Collections.singletonMap("voucherId", voucherId)) > 0;
+    }
 
-        if (conditions.length == 0) {
-            return builder.toString();
+    private String selectQuery(Set<SelectCondition> conditions) {
+        int conditionMask = 0;
+        for (SelectCondition condition : conditions) {
+            conditionMask |= 1 << condition.ordinal();
         }
+        return SELECT_SQL_BY_CONDITIONS[conditionMask];
+    }
 
-        builder.append(" WHERE ");
-
-        for (int i = 0; i < conditions.length; i++) {
-            SelectCondition condition = conditions[i];
-
-            switch (condition) {
-                case ID:
-                    builder.append("voucher_id = :voucherId");
-                    break;
-                case TYPE:
-                    builder.append(" WHERE voucher_type = :voucherType");
-                    break;
-                case PERIOD:
-                    builder.append(" WHERE created_at BETWEEN :from AND :end");
-                    break;
-            }
+    private static String[] buildSelectQueries() {
+        SelectCondition[] conditions = SelectCondition.values();
+        String[] queries = new String[1 << conditions.length];
 
-            if (i < conditions.length-1) {
-                builder.append(" & ");
+        for (int conditionMask = 0; conditionMask < queries.length; conditionMask++) {
+            StringBuilder builder = new StringBuilder(SELECT_VOUCHER_SQL);
+            StringJoiner whereClause = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+
+            for (SelectCondition condition : conditions) {
+                if ((conditionMask & 1 << condition.ordinal()) == 0) {
+                    continue;
+                }
+
+                switch (condition) {
+                    case ID:
+                        whereClause.add("v.voucher_id = :voucherId");
+                        break;
+                    case TYPE:
+                        whereClause.add("v.voucher_type = :voucherType");
+                        break;
+                    case PERIOD:
+                        whereClause.add("v.created_at BETWEEN :from AND :end");
+                        break;
+                    case CUSTOMER:
+                        builder.append(JOIN_WALLET_SQL);
+                        whereClause.add("w.customer_id = :customerId");
+                        break;
+                }
             }
+
+            queries[conditionMask] = builder.append(whereClause).toString();
         }
+        return queries;
+    }
+
+    private PreparedStatementCreator streamingStatementCreator() {
+        return connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(SELECT_ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(STREAMING_FETCH_SIZE);
+            return preparedStatement;
+        };
+    }
 
-        return builder.toString();
+    private void addRow(ResultSet resultSet, VoucherBatch voucherBatch) throws SQLException {
+        VoucherType voucherType = VoucherType.valueOf(resultSet.getString("voucher_type"));
+        voucherBatch.add(resultSet.getLong("voucher_id"),
+                (byte) voucherType.getOrder(),
+                resultSet.getLong("amount"),
+                VoucherRecords.toEpochMillis(resultSet.getTimestamp("created_at").toLocalDateTime()));
     }
 
     private SqlParameterSource toParameterSource(Voucher voucher) {
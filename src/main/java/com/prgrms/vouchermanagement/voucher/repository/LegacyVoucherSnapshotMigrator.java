@@ -0,0 +1,59 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+/**
+ * 이전 버전에서 Java 직렬화로 저장한 vouchers.ser 를 VoucherSnapshot 바이너리 포맷으로 한 번만 변환한다.
+ * 변환이 끝난 파일은 .migrated 로 이름을 바꿔 다시 변환되지 않도록 한다.
+ */
+public final class LegacyVoucherSnapshotMigrator {
+
+    /**
+     * 역직렬화 가능한 클래스를 voucher map 을 구성하는 타입으로 제한한다.
+     */
+    private static final ObjectInputFilter LEGACY_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=10;java.util.HashMap;java.util.Map$Entry;java.lang.Long;java.lang.Number;java.time.Ser;java.time.LocalDateTime;"
+                    + "com.prgrms.vouchermanagement.voucher.FixedAmountVoucher;"
+                    + "com.prgrms.vouchermanagement.voucher.PercentDiscountVoucher;!*");
+
+    private LegacyVoucherSnapshotMigrator() {
+    }
+
+    /**
+     * @return 변환한 voucher 수, 변환할 파일이 없으면 -1
+     * @throws IOException : 파일을 읽거나 쓰는데 실패한 경우 던져진다.
+     */
+    public static long migrate(Path legacyPath, Path snapshotPath, long sequence) throws IOException {
+        if (!Files.exists(legacyPath)) {
+            return -1L;
+        }
+
+        Map<Long, Voucher> legacyStore = readLegacyStore(legacyPath);
+        long maxVoucherId = legacyStore.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+        VoucherSnapshot.write(snapshotPath, legacyStore, Math.max(sequence, maxVoucherId));
+
+        Files.move(legacyPath, Paths.get(legacyPath + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+        return legacyStore.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Voucher> readLegacyStore(Path legacyPath) throws IOException {
+        try (
+                InputStream is = Files.newInputStream(legacyPath);
+                BufferedInputStream bis = new BufferedInputStream(is);
+                ObjectInputStream ois = new ObjectInputStream(bis);
+        ) {
+            ois.setObjectInputFilter(LEGACY_FILTER);
+            return (Map<Long, Voucher>) ois.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new InvalidObjectException("invalid legacy voucher file: " + legacyPath);
+        }
+    }
+}
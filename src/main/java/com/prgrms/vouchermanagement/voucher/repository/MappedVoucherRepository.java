@@ -0,0 +1,167 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.util.FilePathProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * voucher 를 힙이 아닌 메모리 매핑 파일(VoucherSlotFile)에 저장한다.
+ * 힙에는 매핑 정보만 유지하고 Voucher 객체는 조회할 때만 만들어지므로, voucher 수가 많아도 GC 부담이 늘지 않는다.
+ * 변경된 페이지는 주기적으로 디스크에 반영한다.
+ */
+@Repository
+@Profile("mmap")
+public class MappedVoucherRepository implements VoucherRepository {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final FilePathProperties filePathProperties;
+    private VoucherSlotFile slotFile;
+    private ScheduledExecutorService flushScheduler;
+
+    public MappedVoucherRepository(FilePathProperties filePathProperties) {
+        this.filePathProperties = filePathProperties;
+    }
+
+    @Override
+    public Long save(Voucher voucher) {
+        if (voucher == null) {
+            return -1L;
+        }
+
+        try {
+            return slotFile.append(voucher);
+        } catch (IOException e) {
+            log.error("failed to append {}", filePathProperties.getVouchersMappedPath(), e);
+            throw new DataAccessResourceFailureException("failed to append voucher slot", e);
+        }
+    }
+
+    @Override
+    public List<Voucher> findAll() {
+        return slotFile.scan(VoucherSlotFile.SlotFilter.ALL);
+    }
+
+    @Override
+    public void forEachVoucher(Consumer<Voucher> voucherConsumer) {
+        slotFile.forEach(VoucherSlotFile.SlotFilter.ALL, voucherConsumer);
+    }
+
+    @Override
+    public VoucherBatch findAllBatch() {
+        return slotFile.scanBatch(VoucherSlotFile.SlotFilter.ALL);
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<VoucherBatch> batchConsumer) {
+        slotFile.forEachBatch(VoucherSlotFile.SlotFilter.ALL, batchSize, batchConsumer);
+    }
+
+    @Override
+    public List<Voucher> findPage(Long cursor, int limit) {
+        return slotFile.readFrom(cursor == null ? 1L : cursor + 1, limit);
+    }
+
+    @Override
+    public Optional<Voucher> findById(Long voucherId) {
+        if (voucherId == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(slotFile.read(voucherId));
+    }
+
+    @Override
+    public void update(Voucher voucher) {
+        if (voucher == null || voucher.getVoucherId() == null) {
+            return;
+        }
+
+        slotFile.update(voucher.getVoucherId(), voucher);
+    }
+
+    @Override
+    public boolean remove(Long voucherId) {
+        if (voucherId == null) {
+            return false;
+        }
+
+        return slotFile.remove(voucherId);
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType voucherType) {
+        if (voucherType == null) {
+            return Collections.emptyList();
+        }
+
+        byte typeCode = (byte) voucherType.getOrder();
+        return slotFile.scan((slotTypeCode, createdAt) -> slotTypeCode == typeCode);
+    }
+
+    @Override
+    public List<Voucher> findByPeriod(LocalDateTime from, LocalDateTime end) {
+        if (from == null || end == null || from.isAfter(end)) {
+            return Collections.emptyList();
+        }
+
+        long fromMillis = VoucherRecords.toEpochMillis(from);
+        long endMillis = VoucherRecords.toEpochMillis(end);
+        return slotFile.scan((typeCode, createdAt) -> createdAt >= fromMillis && createdAt <= endMillis);
+    }
+
+    /**
+     * mmap 프로파일에는 wallet 저장소가 없으므로 항상 빈 리스트를 반환한다.
+     */
+    @Override
+    public List<Voucher> findVoucherByCustomer(Long customerId) {
+        return Collections.emptyList();
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            slotFile = new VoucherSlotFile(Paths.get(filePathProperties.getVouchersMappedPath()));
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to load vouchers", e);
+        }
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voucher-slot-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(slotFile::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void destroy() {
+        flushScheduler.shutdown();
+
+        try {
+            slotFile.close();
+        } catch (IOException e) {
+            log.error("failed to close {}", filePathProperties.getVouchersMappedPath(), e);
+        }
+    }
+}
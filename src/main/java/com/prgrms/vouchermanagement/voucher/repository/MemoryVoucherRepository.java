@@ -7,21 +7,48 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+/**
+ * 여러 요청 스레드에서 동시에 접근할 수 있도록 ConcurrentHashMap과 AtomicLong으로 voucher를 관리한다.
+ * type, createdAt 보조 인덱스를 함께 유지하여 조회 비용이 전체 voucher 수가 아닌 결과 수에 비례하도록 한다.
+ */
 @Repository
 @Profile("memory")
 public class MemoryVoucherRepository implements VoucherRepository {
 
-    private final Map<Long, Voucher> store = new HashMap<>();
-    private long sequence = 0L;
+    private final Map<Long, Voucher> store = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<VoucherType, Set<Long>> typeIndex = new EnumMap<>(VoucherType.class);
+    private final ConcurrentNavigableMap<LocalDateTime, Set<Long>> createdAtIndex = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Long> voucherIdIndex = new ConcurrentSkipListSet<>();
+
+    public MemoryVoucherRepository() {
+        // typeIndex 는 생성 이후 구조가 바뀌지 않으므로 모든 VoucherType 에 대한 Set 을 미리 만들어 둔다.
+        for (VoucherType voucherType : VoucherType.values()) {
+            typeIndex.put(voucherType, ConcurrentHashMap.newKeySet());
+        }
+    }
 
     @Override
     public Long save(Voucher voucher) {
         if (voucher == null) {
             return -1L;
         }
-        Long voucherId = ++sequence;
-        store.put(voucherId, voucher);
+        Long voucherId = sequence.incrementAndGet();
+
+        // 인덱스 갱신은 해당 voucherId 의 compute 안에서 수행하여 같은 voucher 에 대한 변경과 원자적으로 처리한다.
+        store.compute(voucherId, (id, oldVoucher) -> {
+            addIndex(id, voucher);
+            voucherIdIndex.add(id);
+            return voucher;
+        });
         return voucherId;
     }
 
@@ -32,40 +59,140 @@ public class MemoryVoucherRepository implements VoucherRepository {
 
     @Override
     public Optional<Voucher> findById(Long voucherId) {
+        if (voucherId == null) {
+            return Optional.empty();
+        }
+
         return Optional.ofNullable(store.get(voucherId));
     }
 
     @Override
     public void update(Voucher voucher) {
-        if (voucher == null) {
+        if (voucher == null || voucher.getVoucherId() == null) {
             return;
         }
 
-        if (store.containsKey(voucher.getVoucherId())) {
-            store.put(voucher.getVoucherId(), voucher);
-        }
+        store.computeIfPresent(voucher.getVoucherId(), (id, oldVoucher) -> {
+            removeIndex(id, oldVoucher);
+            addIndex(id, voucher);
+            return voucher;
+        });
     }
 
     @Override
-    public void remove(Long voucherId) {
+    public boolean existsById(Long voucherId) {
+        return voucherId != null && store.containsKey(voucherId);
+    }
+
+    @Override
+    public boolean remove(Long voucherId) {
         if (voucherId == null) {
-            return;
+            return false;
+        }
+
+        // 같은 voucherId 에 대한 remove 가 동시에 호출되어도 한 번만 true 를 반환하도록 computeIfPresent 안에서 기록한다.
+        boolean[] removed = new boolean[1];
+        store.computeIfPresent(voucherId, (id, oldVoucher) -> {
+            removeIndex(id, oldVoucher);
+            voucherIdIndex.remove(id);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 저장된 voucher 에는 voucherId 가 없을 수 있으므로 조회한 voucherId 를 채운 voucher 를 반환한다.
+     */
+    @Override
+    public List<Voucher> findPage(Long cursor, int limit) {
+        NavigableSet<Long> voucherIds = cursor == null ? voucherIdIndex : voucherIdIndex.tailSet(cursor, false);
+        List<Voucher> vouchers = new ArrayList<>(limit);
+
+        for (Long voucherId : voucherIds) {
+            if (vouchers.size() >= limit) {
+                break;
+            }
+
+            Voucher voucher = store.get(voucherId);
+            if (voucher != null) {
+                vouchers.add(VoucherType.getVoucherType(voucher).constructor(voucherId, voucher.getAmount(), voucher.getCreatedAt()));
+            }
         }
-        store.remove(voucherId);
+        return vouchers;
     }
 
     @Override
     public List<Voucher> findByType(VoucherType voucherType) {
-        return null;
+        if (voucherType == null) {
+            return Collections.emptyList();
+        }
+
+        // 인덱스와 store 갱신 사이에 조회될 수 있으므로 store 에서 다시 확인한 결과만 반환한다.
+        return typeIndex.get(voucherType).stream()
+                .map(store::get)
+                .filter(voucher -> voucher != null && VoucherType.getVoucherType(voucher) == voucherType)
+                .collect(Collectors.toList());
     }
 
     @Override
     public List<Voucher> findByPeriod(LocalDateTime from, LocalDateTime end) {
-        return null;
+        if (from == null || end == null || from.isAfter(end)) {
+            return Collections.emptyList();
+        }
+
+        return createdAtIndex.subMap(from, true, end, true).values().stream()
+                .flatMap(Set::stream)
+                .map(store::get)
+                .filter(voucher -> voucher != null && isInPeriod(voucher.getCreatedAt(), from, end))
+                .collect(Collectors.toList());
     }
 
+    /**
+     * memory 프로파일에는 wallet 저장소가 없으므로 항상 빈 리스트를 반환한다.
+     */
     @Override
     public List<Voucher> findVoucherByCustomer(Long customerId) {
-        return null;
+        return Collections.emptyList();
+    }
+
+    private void addIndex(Long voucherId, Voucher voucher) {
+        typeIndex.get(VoucherType.getVoucherType(voucher)).add(voucherId);
+
+        if (voucher.getCreatedAt() != null) {
+            createdAtIndex.compute(voucher.getCreatedAt(), (createdAt, voucherIds) -> addToSet(voucherIds, voucherId));
+        }
+    }
+
+    private void removeIndex(Long voucherId, Voucher voucher) {
+        typeIndex.get(VoucherType.getVoucherType(voucher)).remove(voucherId);
+
+        if (voucher.getCreatedAt() != null) {
+            createdAtIndex.computeIfPresent(voucher.getCreatedAt(), (createdAt, voucherIds) -> removeFromSet(voucherIds, voucherId));
+        }
+    }
+
+    /**
+     * ConcurrentSkipListMap 의 compute 는 경합 시 함수를 여러 번 호출할 수 있으므로
+     * 기존 Set 을 수정하지 않고 새 불변 Set 을 만들어 반환한다.
+     */
+    private Set<Long> addToSet(Set<Long> voucherIds, Long voucherId) {
+        if (voucherIds == null) {
+            return Set.of(voucherId);
+        }
+
+        Set<Long> newVoucherIds = new HashSet<>(voucherIds);
+        newVoucherIds.add(voucherId);
+        return Collections.unmodifiableSet(newVoucherIds);
+    }
+
+    private Set<Long> removeFromSet(Set<Long> voucherIds, Long voucherId) {
+        Set<Long> newVoucherIds = new HashSet<>(voucherIds);
+        newVoucherIds.remove(voucherId);
+        return newVoucherIds.isEmpty() ? null : Collections.unmodifiableSet(newVoucherIds);
+    }
+
+    private boolean isInPeriod(LocalDateTime createdAt, LocalDateTime from, LocalDateTime end) {
+        return createdAt != null && !createdAt.isBefore(from) && !createdAt.isAfter(end);
     }
 }
@@ -0,0 +1,177 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * voucher 변경 연산(save, update, remove)을 고정 길이 레코드로 파일 끝에 추가하는 append-only 로그.
+ * fsync 는 flush() 호출 시점에 모아서 수행하며, 재시작 시 replay() 로 로그를 다시 적용한다.
+ * append 는 fsync 를 기다리지 않고 반환하므로, 다음 flush() 전에 OS 가 비정상 종료되면 그 사이에 기록된 레코드는 유실될 수 있다.
+ * FileVoucherRepository 는 100ms 마다 flush() 하므로 최대 100ms 동안의 변경이 유실될 수 있다.
+ * append 는 호출하는 쪽에서 직렬화하고, recordCount 는 flush() 를 호출하는 다른 thread 에서도 읽으므로 AtomicLong 으로 보관한다.
+ *
+ * <pre>
+ * | operation(1) | voucherId(8) | type(1) | amount(8) | createdAt epoch millis(8) | crc32(4) |
+ * </pre>
+ */
+public class VoucherOperationLog implements Closeable {
+
+    public static final int RECORD_SIZE = 30;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+
+    private static final byte SAVE = 1;
+    private static final byte UPDATE = 2;
+    private static final byte REMOVE = 3;
+    private static final byte SEQUENCE = 4;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+    private volatile boolean dirty;
+    private final AtomicLong recordCount = new AtomicLong();
+
+    public VoucherOperationLog(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 로그에 기록된 연산을 순서대로 store 에 적용하고, 로그에서 확인된 가장 큰 sequence 를 반환한다.
+     * 마지막 레코드가 비정상 종료로 일부만 기록된 경우 해당 레코드부터 잘라낸다.
+     */
+    public long replay(Map<Long, Voucher> store) throws IOException {
+        long sequence = 0L;
+        long position = 0L;
+        long replayedCount = 0L;
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(RECORD_SIZE);
+        while (readRecord(readBuffer, position)) {
+            byte operation = readBuffer.get();
+            long voucherId = readBuffer.getLong();
+            byte type = readBuffer.get();
+            long amount = readBuffer.getLong();
+            long createdAt = readBuffer.getLong();
+
+            switch (operation) {
+                case SAVE:
+                case UPDATE:
+                    store.put(voucherId, VoucherRecords.toVoucher(voucherId, type, amount, createdAt));
+                    break;
+                case REMOVE:
+                    store.remove(voucherId);
+                    break;
+                default:
+                    break;
+            }
+
+            sequence = Math.max(sequence, voucherId);
+            position += RECORD_SIZE;
+            replayedCount++;
+        }
+
+        recordCount.set(replayedCount);
+        channel.truncate(position);
+        channel.position(position);
+        return sequence;
+    }
+
+    public void appendSave(Long voucherId, Voucher voucher) throws IOException {
+        append(SAVE, voucherId, voucher);
+    }
+
+    public void appendUpdate(Long voucherId, Voucher voucher) throws IOException {
+        append(UPDATE, voucherId, voucher);
+    }
+
+    public void appendRemove(Long voucherId) throws IOException {
+        append(REMOVE, voucherId, null);
+    }
+
+    /**
+     * 아직 디스크에 반영되지 않은 레코드가 있으면 fsync 한다.
+     */
+    public void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+
+        dirty = false;
+        channel.force(false);
+    }
+
+    /**
+     * snapshot 에 반영된 로그를 비우고, 삭제된 voucher 의 id 가 재사용되지 않도록 sequence 레코드만 남긴다.
+     */
+    public void reset(long sequence) throws IOException {
+        channel.truncate(0L);
+        channel.position(0L);
+        recordCount.set(0L);
+        append(SEQUENCE, sequence, null);
+        dirty = false;
+        channel.force(true);
+    }
+
+    public long getRecordCount() {
+        return recordCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void append(byte operation, Long voucherId, Voucher voucher) throws IOException {
+        buffer.clear();
+        buffer.put(operation);
+        buffer.putLong(voucherId);
+
+        if (voucher == null) {
+            buffer.put((byte) 0);
+            buffer.putLong(0L);
+            buffer.putLong(0L);
+        } else {
+            buffer.put(VoucherRecords.toTypeCode(voucher));
+            buffer.putLong(voucher.getAmount());
+            buffer.putLong(VoucherRecords.toEpochMillis(voucher.getCreatedAt()));
+        }
+
+        buffer.putInt(checksum(buffer.array()));
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        recordCount.incrementAndGet();
+        dirty = true;
+    }
+
+    private boolean readRecord(ByteBuffer readBuffer, long position) throws IOException {
+        readBuffer.clear();
+        while (readBuffer.hasRemaining()) {
+            if (channel.read(readBuffer, position + readBuffer.position()) < 0) {
+                return false;
+            }
+        }
+        readBuffer.flip();
+
+        return readBuffer.getInt(PAYLOAD_SIZE) == checksum(readBuffer.array());
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(record, 0, PAYLOAD_SIZE);
+        return (int) crc32.getValue();
+    }
+}
@@ -0,0 +1,37 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * voucher 를 파일에 고정 길이 레코드로 저장할 때 사용하는 필드 변환 모음.
+ * createdAt 은 UTC 기준 epoch millis 로 저장하므로 millis 미만의 정밀도는 저장되지 않는다.
+ */
+public final class VoucherRecords {
+
+    private VoucherRecords() {
+    }
+
+    public static byte toTypeCode(Voucher voucher) {
+        return (byte) VoucherType.getVoucherType(voucher).getOrder();
+    }
+
+    public static long toEpochMillis(LocalDateTime createdAt) {
+        return createdAt == null ? 0L : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static LocalDateTime toCreatedAt(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    /**
+     * @throws IllegalArgumentException : typeCode 또는 amount 값이 유효하지 않은 경우 던져진다.
+     */
+    public static Voucher toVoucher(long voucherId, byte typeCode, long amount, long epochMillis) {
+        return VoucherType.getVoucherType(typeCode).constructor(voucherId, amount, toCreatedAt(epochMillis));
+    }
+}
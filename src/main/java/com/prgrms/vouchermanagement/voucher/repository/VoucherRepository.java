@@ -1,27 +1,140 @@
 package com.prgrms.vouchermanagement.voucher.repository;
 
 import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public interface VoucherRepository {
 
     Long save(Voucher voucher);
 
+    /**
+     * 전달받은 순서대로 저장하고, 같은 순서로 부여된 voucherId 목록을 반환한다.
+     */
+    default List<Long> saveAll(List<Voucher> vouchers) {
+        return vouchers.stream()
+                .map(this::save)
+                .collect(Collectors.toList());
+    }
+
     List<Voucher> findAll();
 
+    /**
+     * 모든 voucher 를 목록으로 모으지 않고 하나씩 전달한다.
+     */
+    default void forEachVoucher(Consumer<Voucher> voucherConsumer) {
+        findAll().forEach(voucherConsumer);
+    }
+
+    /**
+     * 모든 voucher 를 하나의 VoucherBatch 에 담는다. 기본 구현은 forEachVoucher 로 전달받은 voucher 를 옮겨 담는다.
+     */
+    default VoucherBatch findAllBatch() {
+        VoucherBatch voucherBatch = new VoucherBatch();
+        forEachVoucher(voucherBatch::add);
+        return voucherBatch;
+    }
+
+    /**
+     * 모든 voucher 를 최대 batchSize 개씩 VoucherBatch 에 담아 전달한다.
+     * 전달되는 VoucherBatch 는 다음 묶음을 담을 때 재사용되므로 batchConsumer 밖에 보관하면 안 된다.
+     */
+    default void forEachBatch(int batchSize, Consumer<VoucherBatch> batchConsumer) {
+        VoucherBatch voucherBatch = new VoucherBatch(batchSize);
+        forEachVoucher(voucher -> {
+            voucherBatch.add(voucher);
+            if (voucherBatch.size() == batchSize) {
+                batchConsumer.accept(voucherBatch);
+                voucherBatch.clear();
+            }
+        });
+
+        if (!voucherBatch.isEmpty()) {
+            batchConsumer.accept(voucherBatch);
+        }
+    }
+
+    /**
+     * voucherId 가 cursor 보다 큰 voucher 를 voucherId 순으로 최대 limit 개 조회한다. cursor 가 null 이면 처음부터 조회한다.
+     */
+    List<Voucher> findPage(Long cursor, int limit);
+
     List<Voucher> findByType(VoucherType voucherType);
 
     List<Voucher> findByPeriod(LocalDateTime from, LocalDateTime end);
 
     List<Voucher> findVoucherByCustomer(Long customerId);
 
+    /**
+     * 여러 customer 의 wallet 에 담긴 voucher 를 customerId 별로 조회한다. wallet 이 비어 있는 customer 는 결과에 없다.
+     * 기본 구현은 customer 마다 findVoucherByCustomer 를 호출한다.
+     */
+    default Map<Long, List<Voucher>> findVoucherByCustomers(Collection<Long> customerIds) {
+        Map<Long, List<Voucher>> vouchersByCustomer = new HashMap<>();
+        for (Long customerId : customerIds) {
+            List<Voucher> vouchers = findVoucherByCustomer(customerId);
+            if (!vouchers.isEmpty()) {
+                vouchersByCustomer.put(customerId, vouchers);
+            }
+        }
+        return vouchersByCustomer;
+    }
+
+    /**
+     * condition 의 모든 조건을 만족하는 voucher 를 조회한다.
+     * 기본 구현은 가장 좁은 조건으로 먼저 조회한 뒤 나머지 조건으로 거른다.
+     */
+    default List<Voucher> findByCondition(VoucherSearchCondition condition) {
+        List<Voucher> vouchers;
+        if (condition.getVoucherId() != null) {
+            vouchers = findById(condition.getVoucherId()).map(List::of).orElse(List.of());
+        } else if (condition.hasPeriod()) {
+            vouchers = findByPeriod(condition.getFrom(), condition.getEnd());
+        } else if (condition.getVoucherType() != null) {
+            vouchers = findByType(condition.getVoucherType());
+        } else {
+            vouchers = findAll();
+        }
+
+        Set<Long> customerVoucherIds = condition.getCustomerId() == null ? null : findVoucherByCustomer(condition.getCustomerId()).stream()
+                .map(Voucher::getVoucherId)
+                .collect(Collectors.toSet());
+
+        return vouchers.stream()
+                .filter(condition::matches)
+                .filter(voucher -> customerVoucherIds == null || customerVoucherIds.contains(voucher.getVoucherId()))
+                .collect(Collectors.toList());
+    }
+
     Optional<Voucher> findById(Long voucherId);
 
+    default boolean existsById(Long voucherId) {
+        return voucherId != null && findById(voucherId).isPresent();
+    }
+
+    /**
+     * 전달받은 voucherId 중 저장된 voucherId 만 반환한다.
+     */
+    default Set<Long> existingIds(Collection<Long> voucherIds) {
+        return voucherIds.stream()
+                .filter(this::existsById)
+                .collect(Collectors.toSet());
+    }
+
     void update(Voucher voucher);
 
-    void remove(Long voucherId);
+    /**
+     * @return 삭제된 voucher 가 있으면 true
+     */
+    boolean remove(Long voucherId);
 }
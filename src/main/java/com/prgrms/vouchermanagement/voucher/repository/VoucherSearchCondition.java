@@ -0,0 +1,88 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * voucher 조회 조건 모음. 값이 null 인 조건은 적용하지 않으며, 기간은 from, end 가 모두 있어야 적용한다.
+ */
+public class VoucherSearchCondition {
+
+    private final Long voucherId;
+    private final VoucherType voucherType;
+    private final LocalDateTime from;
+    private final LocalDateTime end;
+    private final Long customerId;
+
+    private VoucherSearchCondition(Long voucherId, VoucherType voucherType, LocalDateTime from, LocalDateTime end, Long customerId) {
+        this.voucherId = voucherId;
+        this.voucherType = voucherType;
+        this.from = from;
+        this.end = end;
+        this.customerId = customerId;
+    }
+
+    public static VoucherSearchCondition of(Long voucherId, VoucherType voucherType, LocalDateTime from, LocalDateTime end, Long customerId) {
+        return new VoucherSearchCondition(voucherId, voucherType, from, end, customerId);
+    }
+
+    public static VoucherSearchCondition all() {
+        return new VoucherSearchCondition(null, null, null, null, null);
+    }
+
+    public Set<SelectCondition> getSelectConditions() {
+        Set<SelectCondition> selectConditions = EnumSet.noneOf(SelectCondition.class);
+        if (voucherId != null) {
+            selectConditions.add(SelectCondition.ID);
+        }
+        if (voucherType != null) {
+            selectConditions.add(SelectCondition.TYPE);
+        }
+        if (hasPeriod()) {
+            selectConditions.add(SelectCondition.PERIOD);
+        }
+        if (customerId != null) {
+            selectConditions.add(SelectCondition.CUSTOMER);
+        }
+        return selectConditions;
+    }
+
+    /**
+     * voucher 자체의 값으로 확인할 수 있는 type, 기간 조건을 만족하는지 확인한다.
+     */
+    public boolean matches(Voucher voucher) {
+        if (voucherType != null && VoucherType.getVoucherType(voucher) != voucherType) {
+            return false;
+        }
+
+        return !hasPeriod() || (voucher.getCreatedAt() != null && !voucher.getCreatedAt().isBefore(from) && !voucher.getCreatedAt().isAfter(end));
+    }
+
+    public boolean hasPeriod() {
+        return from != null && end != null;
+    }
+
+    public Long getVoucherId() {
+        return voucherId;
+    }
+
+    public VoucherType getVoucherType() {
+        return voucherType;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+}
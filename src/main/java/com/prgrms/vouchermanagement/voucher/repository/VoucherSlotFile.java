@@ -0,0 +1,355 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * voucher 를 메모리 매핑된 파일의 고정 길이 slot 에 저장한다.
+ * voucherId 가 곧 slot 번호이므로 별도의 인덱스 없이 위치를 계산할 수 있고, Voucher 객체는 조회할 때만 만들어진다.
+ *
+ * <pre>
+ * header : | magic(4) | version(4) | sequence(8) | reserved(48) |
+ * slot   : | state(1) | type(1) | reserved(6) | amount(8) | createdAt epoch millis(8) | reserved(8) |
+ * </pre>
+ */
+public class VoucherSlotFile implements Closeable {
+
+    public static final int MAGIC = 0x564D4D50; // "VMMP"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int SLOT_SIZE = 32;
+
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int STATE_OFFSET = 0;
+    private static final int TYPE_OFFSET = 1;
+    private static final int AMOUNT_OFFSET = 8;
+    private static final int CREATED_AT_OFFSET = 16;
+
+    private static final byte EMPTY = 0;
+    private static final byte LIVE = 1;
+    private static final byte REMOVED = 2;
+
+    private static final int SLOTS_PER_SEGMENT = 1 << 18;
+    private static final long SEGMENT_SIZE = (long) SLOTS_PER_SEGMENT * SLOT_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final StampedLock lock = new StampedLock();
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private volatile long sequence;
+    private volatile boolean dirty;
+
+    /**
+     * @throws IOException : 파일 포맷이나 버전이 맞지 않는 경우 던져진다.
+     */
+    public VoucherSlotFile(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        boolean isNewFile = channel.size() == 0;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0L, HEADER_SIZE);
+
+        if (isNewFile) {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(SEQUENCE_OFFSET, 0L);
+        } else {
+            validateHeader(path);
+        }
+
+        this.sequence = header.getLong(SEQUENCE_OFFSET);
+        ensureCapacity(sequence);
+    }
+
+    /**
+     * 새 slot 에 voucher 를 기록하고 부여한 voucherId 를 반환한다.
+     */
+    public long append(Voucher voucher) throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            long voucherId = sequence + 1;
+            ensureCapacity(voucherId);
+            writeSlot(voucherId, voucher);
+
+            // slot 을 모두 기록한 뒤에 sequence 를 갱신하여, 중간에 종료되면 해당 slot 은 없는 것으로 취급된다.
+            header.putLong(SEQUENCE_OFFSET, voucherId);
+            sequence = voucherId;
+            dirty = true;
+            return voucherId;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 저장된 voucher 가 있어 갱신한 경우 true
+     */
+    public boolean update(long voucherId, Voucher voucher) {
+        long stamp = lock.writeLock();
+        try {
+            if (readState(voucherId) != LIVE) {
+                return false;
+            }
+
+            writeSlot(voucherId, voucher);
+            dirty = true;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 저장된 voucher 가 있어 삭제한 경우 true
+     */
+    public boolean remove(long voucherId) {
+        long stamp = lock.writeLock();
+        try {
+            if (readState(voucherId) != LIVE) {
+                return false;
+            }
+
+            slotBuffer(voucherId).put(slotOffset(voucherId) + STATE_OFFSET, REMOVED);
+            dirty = true;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 저장된 voucher 가 없으면 null
+     */
+    public Voucher read(long voucherId) {
+        return read(voucherId, SlotFilter.ALL);
+    }
+
+    /**
+     * type, createdAt 을 slot 에서 바로 비교하여 조건에 맞는 voucher 만 객체로 만든다.
+     */
+    public List<Voucher> scan(SlotFilter filter) {
+        List<Voucher> vouchers = new ArrayList<>();
+        forEach(filter, vouchers::add);
+        return vouchers;
+    }
+
+    /**
+     * 조건에 맞는 voucher 를 하나씩 만들어 전달하므로, 결과를 모아두지 않고 순회할 수 있다.
+     */
+    public void forEach(SlotFilter filter, Consumer<Voucher> voucherConsumer) {
+        long lastVoucherId = sequence;
+
+        for (long voucherId = 1; voucherId <= lastVoucherId; voucherId++) {
+            Voucher voucher = read(voucherId, filter);
+            if (voucher != null) {
+                voucherConsumer.accept(voucher);
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 voucher 를 Voucher 객체 없이 slot 의 값 그대로 VoucherBatch 에 담는다.
+     */
+    public VoucherBatch scanBatch(SlotFilter filter) {
+        VoucherBatch voucherBatch = new VoucherBatch();
+        SlotReader<Boolean> batchAppender = batchAppender(voucherBatch);
+        long lastVoucherId = sequence;
+
+        for (long voucherId = 1; voucherId <= lastVoucherId; voucherId++) {
+            readSlot(voucherId, filter, batchAppender);
+        }
+        return voucherBatch;
+    }
+
+    /**
+     * 조건에 맞는 voucher 를 Voucher 객체 없이 slot 의 값 그대로 batchSize 개씩 VoucherBatch 에 담아 전달한다.
+     * 전달되는 VoucherBatch 는 다음 묶음을 담을 때 재사용된다.
+     */
+    public void forEachBatch(SlotFilter filter, int batchSize, Consumer<VoucherBatch> batchConsumer) {
+        VoucherBatch voucherBatch = new VoucherBatch(batchSize);
+        SlotReader<Boolean> batchAppender = batchAppender(voucherBatch);
+        long lastVoucherId = sequence;
+
+        for (long voucherId = 1; voucherId <= lastVoucherId; voucherId++) {
+            if (readSlot(voucherId, filter, batchAppender) != null && voucherBatch.size() == batchSize) {
+                batchConsumer.accept(voucherBatch);
+                voucherBatch.clear();
+            }
+        }
+
+        if (!voucherBatch.isEmpty()) {
+            batchConsumer.accept(voucherBatch);
+        }
+    }
+
+    /**
+     * fromVoucherId 부터 voucherId 순으로 저장된 voucher 를 최대 limit 개 읽는다.
+     */
+    public List<Voucher> readFrom(long fromVoucherId, int limit) {
+        List<Voucher> vouchers = new ArrayList<>(limit);
+        long lastVoucherId = sequence;
+
+        for (long voucherId = Math.max(fromVoucherId, 1L); voucherId <= lastVoucherId && vouchers.size() < limit; voucherId++) {
+            Voucher voucher = read(voucherId, SlotFilter.ALL);
+            if (voucher != null) {
+                vouchers.add(voucher);
+            }
+        }
+        return vouchers;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 변경된 페이지를 디스크에 반영한다. 변경이 없으면 아무것도 하지 않는다.
+     */
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        header.force();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    /**
+     * slot 의 값을 중간 객체 없이 바로 Voucher 로 만든다.
+     */
+    private Voucher read(long voucherId, SlotFilter filter) {
+        return readSlot(voucherId, filter, VoucherRecords::toVoucher);
+    }
+
+    /**
+     * 조회는 락 없이 낙관적으로 읽고, 읽는 도중 쓰기가 있었던 경우에만 읽기 락을 잡고 다시 읽는다.
+     *
+     * @return 조건에 맞는 voucher 가 없으면 null, 있으면 slotReader 의 결과
+     */
+    private <T> T readSlot(long voucherId, SlotFilter filter, SlotReader<T> slotReader) {
+        if (voucherId <= 0 || voucherId > sequence) {
+            return null;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        byte state = readState(voucherId);
+        byte typeCode = slotBuffer(voucherId).get(slotOffset(voucherId) + TYPE_OFFSET);
+        long amount = slotBuffer(voucherId).getLong(slotOffset(voucherId) + AMOUNT_OFFSET);
+        long createdAt = slotBuffer(voucherId).getLong(slotOffset(voucherId) + CREATED_AT_OFFSET);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                state = readState(voucherId);
+                typeCode = slotBuffer(voucherId).get(slotOffset(voucherId) + TYPE_OFFSET);
+                amount = slotBuffer(voucherId).getLong(slotOffset(voucherId) + AMOUNT_OFFSET);
+                createdAt = slotBuffer(voucherId).getLong(slotOffset(voucherId) + CREATED_AT_OFFSET);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (state != LIVE || !filter.test(typeCode, createdAt)) {
+            return null;
+        }
+        return slotReader.read(voucherId, typeCode, amount, createdAt);
+    }
+
+    /**
+     * 묶음을 순회하는 동안 한 번만 만들어 재사용한다.
+     */
+    private static SlotReader<Boolean> batchAppender(VoucherBatch voucherBatch) {
+        return (voucherId, typeCode, amount, createdAt) -> {
+            voucherBatch.add(voucherId, typeCode, amount, createdAt);
+            return Boolean.TRUE;
+        };
+    }
+
+    private void writeSlot(long voucherId, Voucher voucher) {
+        MappedByteBuffer buffer = slotBuffer(voucherId);
+        int offset = slotOffset(voucherId);
+
+        buffer.put(offset + TYPE_OFFSET, VoucherRecords.toTypeCode(voucher));
+        buffer.putLong(offset + AMOUNT_OFFSET, voucher.getAmount());
+        buffer.putLong(offset + CREATED_AT_OFFSET, VoucherRecords.toEpochMillis(voucher.getCreatedAt()));
+        buffer.put(offset + STATE_OFFSET, LIVE);
+    }
+
+    private byte readState(long voucherId) {
+        if (voucherId <= 0 || voucherId > segments.length * (long) SLOTS_PER_SEGMENT) {
+            return EMPTY;
+        }
+        return slotBuffer(voucherId).get(slotOffset(voucherId) + STATE_OFFSET);
+    }
+
+    private MappedByteBuffer slotBuffer(long voucherId) {
+        return segments[(int) ((voucherId - 1) / SLOTS_PER_SEGMENT)];
+    }
+
+    private int slotOffset(long voucherId) {
+        return (int) ((voucherId - 1) % SLOTS_PER_SEGMENT) * SLOT_SIZE;
+    }
+
+    /**
+     * voucherId 까지의 slot 이 매핑되어 있도록 segment 를 추가로 매핑한다. 매핑 범위만큼 파일이 늘어난다.
+     */
+    private void ensureCapacity(long voucherId) throws IOException {
+        int requiredSegments = (int) ((voucherId + SLOTS_PER_SEGMENT - 1) / SLOTS_PER_SEGMENT);
+        if (requiredSegments <= segments.length) {
+            return;
+        }
+
+        MappedByteBuffer[] newSegments = Arrays.copyOf(segments, requiredSegments);
+        for (int i = segments.length; i < requiredSegments; i++) {
+            newSegments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * SEGMENT_SIZE, SEGMENT_SIZE);
+        }
+        segments = newSegments;
+    }
+
+    private void validateHeader(Path path) throws IOException {
+        if (channel.size() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("invalid voucher slot file: " + path);
+        }
+
+        int version = header.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("unsupported voucher slot file version " + version + ": " + path);
+        }
+    }
+
+    @FunctionalInterface
+    public interface SlotFilter {
+        SlotFilter ALL = (typeCode, createdAt) -> true;
+
+        boolean test(byte typeCode, long createdAtEpochMillis);
+    }
+
+    @FunctionalInterface
+    private interface SlotReader<T> {
+        T read(long voucherId, byte typeCode, long amount, long createdAtEpochMillis);
+    }
+}
@@ -0,0 +1,141 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * voucher 목록을 버전이 있는 고정 길이 바이너리 포맷으로 저장하고 읽는다.
+ * 쓰기는 FileChannel 로 순차 기록하고, 읽기는 파일을 메모리 매핑하여 레코드를 바로 해석한다.
+ *
+ * <pre>
+ * header : | magic(4) | version(4) | sequence(8) | record count(8) |
+ * record : | voucherId(8) | type(1) | amount(8) | createdAt epoch millis(8) |
+ * </pre>
+ */
+public final class VoucherSnapshot {
+
+    public static final int MAGIC = 0x56434852; // "VCHR"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int RECORD_SIZE = 25;
+
+    private static final int WRITE_BUFFER_RECORDS = 4096;
+    private static final long MAX_MAPPED_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private VoucherSnapshot() {
+    }
+
+    /**
+     * 임시 파일에 기록한 뒤 교체하여, 저장 도중 종료되어도 이전 snapshot 이 남도록 한다.
+     */
+    public static void write(Path path, Map<Long, Voucher> store, long sequence) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path tempPath = Paths.get(path + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * WRITE_BUFFER_RECORDS);
+
+            // 레코드 수는 다 쓴 뒤에 확정되므로 header 는 마지막에 다시 기록한다.
+            buffer.put(new byte[HEADER_SIZE]);
+            long recordCount = 0L;
+
+            for (Map.Entry<Long, Voucher> entry : store.entrySet()) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    writeFully(channel, buffer);
+                }
+
+                Voucher voucher = entry.getValue();
+                buffer.putLong(entry.getKey());
+                buffer.put(VoucherRecords.toTypeCode(voucher));
+                buffer.putLong(voucher.getAmount());
+                buffer.putLong(VoucherRecords.toEpochMillis(voucher.getCreatedAt()));
+                recordCount++;
+            }
+            writeFully(channel, buffer);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(sequence);
+            buffer.putLong(recordCount);
+            buffer.flip();
+            channel.write(buffer, 0L);
+            channel.force(true);
+        }
+
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * snapshot 의 voucher 를 store 에 채우고 저장된 sequence 를 반환한다. 파일이 없으면 0 을 반환한다.
+     *
+     * @throws IOException : 파일 포맷이나 버전이 맞지 않는 경우 던져진다.
+     */
+    public static long read(Path path, Map<Long, Voucher> store) throws IOException {
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("invalid voucher snapshot: " + path);
+            }
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("invalid voucher snapshot: " + path);
+            }
+
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported voucher snapshot version " + version + ": " + path);
+            }
+
+            long sequence = header.getLong();
+            long recordCount = header.getLong();
+            if (channel.size() < HEADER_SIZE + recordCount * RECORD_SIZE) {
+                throw new IOException("truncated voucher snapshot: " + path);
+            }
+
+            // 하나의 매핑은 2GB 를 넘을 수 없으므로 레코드 경계에 맞춰 나누어 매핑한다.
+            long position = HEADER_SIZE;
+            long remainingRecords = recordCount;
+            while (remainingRecords > 0) {
+                long mappedRecords = Math.min(remainingRecords, MAX_MAPPED_RECORDS);
+                MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedRecords * RECORD_SIZE);
+
+                for (long i = 0; i < mappedRecords; i++) {
+                    long voucherId = records.getLong();
+                    byte typeCode = records.get();
+                    long amount = records.getLong();
+                    long createdAt = records.getLong();
+                    store.put(voucherId, VoucherRecords.toVoucher(voucherId, typeCode, amount, createdAt));
+                }
+
+                position += mappedRecords * RECORD_SIZE;
+                remainingRecords -= mappedRecords;
+            }
+
+            return sequence;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
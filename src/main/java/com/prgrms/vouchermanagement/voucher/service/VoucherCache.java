@@ -0,0 +1,174 @@
+package com.prgrms.vouchermanagement.voucher.service;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * voucherId 로 조회한 Voucher 를 보관하는 캐시.
+ * 조회는 lock 없이 ConcurrentHashMap 에서 읽고, 항목마다 마지막으로 사용된 시각만 기록한다.
+ * 최대 개수를 넘으면 항목을 SAMPLE_SIZE 개씩 돌아가며 살펴 그중 가장 오래 사용되지 않은 항목을 제거하는 근사 LRU 이며, ttl 이 지나면 해당 항목을 제거한다.
+ * 조회되지 않은 voucherId 는 캐시하지 않는다.
+ */
+public class VoucherCache {
+
+    private static final int SAMPLE_SIZE = 8;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 제거할 항목은 한 thread 만 고른다. 다른 thread 가 고르는 중이면 기다리지 않고 넘어가므로 잠시 최대 개수를 넘을 수 있다.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<Long, Entry>> evictionCursor;
+
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public VoucherCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    VoucherCache(int maximumSize, Duration ttl, LongSupplier ticker) {
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회하여 저장한다.
+     * 조회하는 동안 invalidate 가 있었다면 조회 결과가 이미 오래된 값일 수 있으므로 저장하지 않는다.
+     */
+    public Optional<Voucher> get(Long voucherId, Function<Long, Optional<Voucher>> loader) {
+        long now = ticker.getAsLong();
+        Entry entry = entries.get(voucherId);
+        if (entry != null && !entry.isExpired(now)) {
+            entry.lastAccessedAt = now;
+            hitCount.increment();
+            return Optional.of(entry.voucher);
+        }
+
+        if (entry != null && entries.remove(voucherId, entry)) {
+            evictionCount.increment();
+        }
+        missCount.increment();
+
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        Optional<Voucher> loadedVoucher = loader.apply(voucherId);
+
+        loadedVoucher.ifPresent(voucher -> put(voucherId, voucher, invalidationCountBeforeLoad));
+        return loadedVoucher;
+    }
+
+    /**
+     * 만료되지 않은 항목이 있는지만 확인한다. hit, miss 통계와 사용 시각에는 반영하지 않는다.
+     */
+    public boolean contains(Long voucherId) {
+        Entry entry = entries.get(voucherId);
+        return entry != null && !entry.isExpired(ticker.getAsLong());
+    }
+
+    public void invalidate(Long voucherId) {
+        invalidationCount.incrementAndGet();
+        entries.remove(voucherId);
+    }
+
+    public VoucherCacheStats getStats() {
+        return new VoucherCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), entries.size());
+    }
+
+    private void put(Long voucherId, Voucher voucher, long invalidationCountBeforeLoad) {
+        if (invalidationCount.get() != invalidationCountBeforeLoad) {
+            return;
+        }
+
+        long now = ticker.getAsLong();
+        Entry loadedEntry = new Entry(voucher, now + ttlNanos, now);
+        entries.put(voucherId, loadedEntry);
+
+        // 확인한 뒤 저장하기 전에 invalidate 가 끼어들었다면 방금 저장한 값을 되돌린다.
+        if (invalidationCount.get() != invalidationCountBeforeLoad) {
+            entries.remove(voucherId, loadedEntry);
+            return;
+        }
+        evictOverflow();
+    }
+
+    /**
+     * lock 을 놓은 뒤에도 다시 확인하므로, 제거하는 동안 다른 thread 가 저장하고 넘어간 항목도 정리된다.
+     */
+    private void evictOverflow() {
+        while (entries.size() > maximumSize && evictionLock.tryLock()) {
+            try {
+                while (entries.size() > maximumSize) {
+                    Map.Entry<Long, Entry> victim = sampleVictim();
+                    if (victim == null) {
+                        return;
+                    }
+                    if (entries.remove(victim.getKey(), victim.getValue())) {
+                        evictionCount.increment();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 이전에 살펴본 위치부터 SAMPLE_SIZE 개를 살펴 만료되었거나 가장 오래 사용되지 않은 항목을 고른다.
+     * 끝까지 살펴보면 처음부터 다시 살펴보므로 모든 항목이 차례로 후보가 된다.
+     */
+    private Map.Entry<Long, Entry> sampleVictim() {
+        long now = ticker.getAsLong();
+        Map.Entry<Long, Entry> victim = null;
+
+        for (int sampled = 0; sampled < SAMPLE_SIZE; sampled++) {
+            if (evictionCursor == null || !evictionCursor.hasNext()) {
+                evictionCursor = entries.entrySet().iterator();
+                if (!evictionCursor.hasNext()) {
+                    break;
+                }
+            }
+
+            Map.Entry<Long, Entry> candidate = evictionCursor.next();
+            if (candidate.getValue().isExpired(now)) {
+                return candidate;
+            }
+            if (victim == null || candidate.getValue().lastAccessedAt - victim.getValue().lastAccessedAt < 0) {
+                victim = candidate;
+            }
+        }
+        return victim;
+    }
+
+    private static class Entry {
+        private final Voucher voucher;
+        private final long expiresAt;
+        private volatile long lastAccessedAt;
+
+        private Entry(Voucher voucher, long expiresAt, long lastAccessedAt) {
+            this.voucher = voucher;
+            this.expiresAt = expiresAt;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.prgrms.vouchermanagement.voucher.service;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 저장된 voucher 의 amount 가 바뀌거나 voucher 가 삭제되었음을 알린다.
+ * voucher 를 참조하는 캐시는 VoucherService 에 의존하지 않고 이 event 를 받아 비운다.
+ */
+public class VoucherChangedEvent extends ApplicationEvent {
+
+    private final Long voucherId;
+
+    public VoucherChangedEvent(Object source, Long voucherId) {
+        super(source);
+        this.voucherId = voucherId;
+    }
+
+    public Long getVoucherId() {
+        return voucherId;
+    }
+}
@@ -1,22 +1,42 @@
 package com.prgrms.vouchermanagement.voucher.service;
 
+import com.prgrms.vouchermanagement.util.CursorPage;
+import com.prgrms.vouchermanagement.util.VoucherProperties;
 import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 import com.prgrms.vouchermanagement.voucher.repository.VoucherRepository;
+import com.prgrms.vouchermanagement.voucher.repository.VoucherSearchCondition;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class VoucherService {
 
     private final VoucherRepository voucherRepository;
+    private final VoucherProperties voucherProperties;
+    private final VoucherCache voucherCache;
+    private final VoucherVersions voucherVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public VoucherService(VoucherRepository voucherRepository) {
+    public VoucherService(VoucherRepository voucherRepository, VoucherProperties voucherProperties, ApplicationEventPublisher eventPublisher) {
         this.voucherRepository = voucherRepository;
+        this.voucherProperties = voucherProperties;
+        this.eventPublisher = eventPublisher;
+        this.voucherCache = new VoucherCache(voucherProperties.getCacheMaximumSize(), voucherProperties.getCacheTtl());
+        this.voucherVersions = new VoucherVersions(voucherProperties.getCacheMaximumSize(), voucherProperties.getCacheTtl());
     }
 
     /**
@@ -24,44 +44,202 @@ public class VoucherService {
      */
     public Long addVoucher(VoucherType voucherType, long amount) throws IllegalArgumentException, DataAccessException {
         Voucher newVoucher = voucherType.constructor(amount, LocalDateTime.now());
-        return voucherRepository.save(newVoucher);
+        Long voucherId = voucherRepository.save(newVoucher);
+        voucherVersions.changed(voucherId);
+        return voucherId;
     }
 
     /**
+     * 설정된 batchSize 단위로 나누어 저장하고, 전달받은 순서대로 voucherId 목록을 반환한다.
+     * 모든 묶음은 하나의 트랜잭션에서 저장되므로, 중간에 실패하면 앞서 저장한 묶음도 함께 롤백된다.
+     *
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
+    @Transactional
+    public List<Long> addVouchers(List<Voucher> vouchers) throws DataAccessException {
+        int batchSize = voucherProperties.getBatchSize();
+        List<Long> voucherIds = new ArrayList<>(vouchers.size());
+
+        for (int from = 0; from < vouchers.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, vouchers.size());
+            voucherIds.addAll(voucherRepository.saveAll(vouchers.subList(from, to)));
+        }
+        voucherIds.forEach(voucherVersions::changed);
+        return voucherIds;
+    }
+
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
     public List<Voucher> findAllVouchers() throws DataAccessException {
         return voucherRepository.findAll();
     }
 
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Voucher> findVoucherPage(Long cursor, int size) throws DataAccessException {
+        int limitedSize = CursorPage.limitSize(size);
+        List<Voucher> vouchers = voucherRepository.findPage(cursor, limitedSize + 1);
+        return CursorPage.of(vouchers, limitedSize, Voucher::getVoucherId);
+    }
+
+    /**
+     * 모든 Voucher를 목록으로 모으지 않고, Voucher 를 만들지 않은 채 설정된 batchSize 개씩 VoucherBatch 에 담아 전달한다.
+     * 전달되는 VoucherBatch 는 다음 묶음을 담을 때 재사용되므로 batchConsumer 밖에 보관하면 안 된다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public void exportVoucherBatches(Consumer<VoucherBatch> batchConsumer) throws DataAccessException {
+        voucherRepository.forEachBatch(voucherProperties.getBatchSize(), batchConsumer);
+    }
+
+    /**
+     * 조건이 없으면 repository 가 Voucher 를 만들지 않고 채운 VoucherBatch 를 그대로 반환한다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public VoucherBatch findVoucherBatch(VoucherSearchCondition condition) throws DataAccessException {
+        if (condition.getSelectConditions().isEmpty()) {
+            return voucherRepository.findAllBatch();
+        }
+        return VoucherBatch.of(voucherRepository.findByCondition(condition));
+    }
+
     /**
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
     public boolean isRegisteredVoucher(Long voucherId) throws DataAccessException {
-        return voucherRepository.findById(voucherId).isPresent();
+        return voucherId != null && (voucherCache.contains(voucherId) || voucherRepository.existsById(voucherId));
     }
 
-    public Optional<Voucher> findVoucherById(Long voucherId) {
-        return voucherRepository.findById(voucherId);
+    /**
+     * 조회한 Voucher는 캐시에 보관하여 같은 voucherId 의 반복 조회는 Repository를 거치지 않는다.
+     * replica 는 primary 보다 늦게 반영될 수 있으므로, 캐시에 채울 값은 readOnly 가 아닌 트랜잭션으로 primary 에서 조회한다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional
+    public Optional<Voucher> findVoucherById(Long voucherId) throws DataAccessException {
+        if (voucherId == null) {
+            return Optional.empty();
+        }
+
+        return voucherCache.get(voucherId, voucherRepository::findById);
     }
 
+    @Transactional(readOnly = true)
     public List<Voucher> findVoucherByType(VoucherType voucherType) {
         return voucherRepository.findByType(voucherType);
     }
 
+    @Transactional(readOnly = true)
     public List<Voucher> findVoucherByPeriod(LocalDateTime from, LocalDateTime end) {
         return voucherRepository.findByPeriod(from, end);
     }
 
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public List<Voucher> findVouchers(VoucherSearchCondition condition) throws DataAccessException {
+        return voucherRepository.findByCondition(condition);
+    }
+
+    @Transactional(readOnly = true)
     public List<Voucher> findVoucherByCustomer(Long customerId) throws IllegalArgumentException, DataAccessException {
         return voucherRepository.findVoucherByCustomer(customerId);
     }
 
-    public boolean removeVoucher(Long voucherId) {
-        if (!isRegisteredVoucher(voucherId)) {
+    /**
+     * 여러 customer 의 wallet 을 customerId 별로 한 번에 조회한다. wallet 이 비어 있는 customer 는 결과에 없다.
+     * replica 에 아직 반영되지 않은 wallet 변경도 보이도록 primary 에서 조회하므로, 조회 결과를 캐시에 보관하는 경우에 사용한다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional
+    public Map<Long, List<Voucher>> findVoucherByCustomersFromPrimary(Collection<Long> customerIds) throws DataAccessException {
+        return voucherRepository.findVoucherByCustomers(customerIds);
+    }
+
+    /**
+     * 삭제한 voucher 를 참조하는 캐시가 비워지도록 VoucherChangedEvent 를 발행한다.
+     *
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    public boolean removeVoucher(Long voucherId) throws DataAccessException {
+        if (voucherId == null) {
             return false;
         }
-        voucherRepository.remove(voucherId);
-        return true;
+
+        boolean removed = voucherRepository.remove(voucherId);
+        invalidateCache(voucherId);
+        voucherVersions.changed(voucherId);
+        eventPublisher.publishEvent(new VoucherChangedEvent(this, voucherId));
+        return removed;
+    }
+
+    /**
+     * voucher 에서 변경할 수 있는 값은 amount 뿐이다. 변경 후 VoucherChangedEvent 를 발행한다.
+     *
+     * @throws IllegalArgumentException : 등록되지 않은 voucher 이거나 amount 가 voucher 의 범위를 벗어나는 경우 던져진다.
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional
+    public void updateVoucherAmount(Long voucherId, long amount) throws IllegalArgumentException, DataAccessException {
+        Voucher voucher = Optional.ofNullable(voucherId).flatMap(voucherRepository::findById)
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 Voucher입니다."));
+
+        Voucher updatedVoucher = VoucherType.getVoucherType(voucher).constructor(voucherId, amount, voucher.getCreatedAt());
+        voucherRepository.update(updatedVoucher);
+        invalidateCache(voucherId);
+        voucherVersions.changed(voucherId);
+        eventPublisher.publishEvent(new VoucherChangedEvent(this, voucherId));
+    }
+
+    /**
+     * repository 를 조회하지 않고 voucher 의 현재 버전을 반환한다. 등록되지 않은 voucherId 도 버전을 가진다.
+     */
+    public VoucherVersion getVoucherVersion(Long voucherId) {
+        return voucherVersions.get(voucherId);
+    }
+
+    /**
+     * voucher 가 하나라도 저장, 수정, 삭제되거나 wallet 이 바뀌면 달라지는 voucher 목록의 버전을 반환한다.
+     */
+    public VoucherVersion getVoucherListVersion() {
+        return voucherVersions.getList();
+    }
+
+    /**
+     * wallet 변경으로 customer 별 voucher 목록이 달라졌음을 알린다.
+     */
+    public void voucherListChanged() {
+        voucherVersions.listChanged();
+    }
+
+    public VoucherCacheStats getCacheStats() {
+        return voucherCache.getStats();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 전에 다른 요청이 조회한 이전 값이 캐시에 남지 않도록 트랜잭션이 끝난 뒤 한 번 더 비운다.
+     * 롤백된 경우에도 같은 트랜잭션에서 조회된 커밋되지 않은 값이 남지 않도록 비운다.
+     */
+    private void invalidateCache(Long voucherId) {
+        voucherCache.invalidate(voucherId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    voucherCache.invalidate(voucherId);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,23 @@
+package com.prgrms.vouchermanagement.voucher.service;
+
+/**
+ * voucher 또는 voucher 목록의 현재 버전. tag 는 따옴표가 없는 ETag 값이고, lastModified 는 epoch millis 이다.
+ */
+public class VoucherVersion {
+
+    private final String tag;
+    private final long lastModified;
+
+    public VoucherVersion(String tag, long lastModified) {
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
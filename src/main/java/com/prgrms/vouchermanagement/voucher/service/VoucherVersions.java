@@ -0,0 +1,134 @@
+package com.prgrms.vouchermanagement.voucher.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * voucher 와 voucher 목록의 버전을 repository 를 조회하지 않고 알려주는 버전 캐시. 버전은 ETag 와 Last-Modified 로 사용된다.
+ *
+ * <pre>
+ * tag          : "세대-버전", 변경되지 않은 voucher 의 버전은 0 이다.
+ * lastModified : 세대가 시작된 시각 또는 이 세대에서 마지막으로 변경된 시각
+ * </pre>
+ *
+ * 이 서버를 거친 변경만 기록되므로, 다른 서버나 DB 에서 직접 바꾼 값은 ttl 이 지나 새 세대가 시작될 때 반영된다.
+ * 세대가 바뀌면 모든 tag 가 달라지고 lastModified 는 세대가 시작된 시각이 된다.
+ * 변경된 voucher 가 최대 개수를 넘어도 새 세대를 시작하므로, 기록은 최대 개수를 넘지 않는다.
+ */
+public class VoucherVersions {
+
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Long, Change> changes = new HashMap<>();
+
+    private long generation;
+    private long generationStartedAt;
+    private long version;
+    private long listModifiedAt;
+
+    public VoucherVersions(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::currentTimeMillis);
+    }
+
+    VoucherVersions(int maximumSize, Duration ttl, LongSupplier clock) {
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        startGeneration(clock.getAsLong());
+    }
+
+    public synchronized VoucherVersion get(Long voucherId) {
+        long now = clock.getAsLong();
+        expire(now);
+
+        Change change = changes.get(voucherId);
+        if (change == null) {
+            return toVersion(0, generationStartedAt);
+        }
+        return toVersion(change.version, change.modifiedAt);
+    }
+
+    public synchronized VoucherVersion getList() {
+        expire(clock.getAsLong());
+        return toVersion(version, listModifiedAt);
+    }
+
+    /**
+     * voucher 가 저장, 수정, 삭제되면 해당 voucher 와 목록의 버전을 올린다.
+     * 트랜잭션 안에서 호출되면 커밋 전에 조회된 값이 새 버전으로 기록되지 않도록 트랜잭션이 끝난 뒤 한 번 더 올린다.
+     */
+    public void changed(Long voucherId) {
+        afterCompletion(() -> increase(voucherId));
+    }
+
+    /**
+     * wallet 이 바뀌어 customer 별 목록이 달라지는 경우처럼 목록의 버전만 올린다.
+     */
+    public void listChanged() {
+        afterCompletion(() -> increase(null));
+    }
+
+    private synchronized void increase(Long voucherId) {
+        long now = clock.getAsLong();
+        expire(now);
+        if (voucherId != null && changes.size() >= maximumSize && !changes.containsKey(voucherId)) {
+            startGeneration(now);
+        }
+
+        version++;
+        listModifiedAt = Math.max(now, listModifiedAt);
+        if (voucherId != null) {
+            changes.put(voucherId, new Change(version, listModifiedAt));
+        }
+    }
+
+    private void afterCompletion(Runnable increase) {
+        increase.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    increase.run();
+                }
+            });
+        }
+    }
+
+    private void expire(long now) {
+        if (now - generationStartedAt >= ttlMillis) {
+            startGeneration(now);
+        }
+    }
+
+    /**
+     * 세대는 항상 증가하므로 이전 세대나 재시작 전의 tag 와 겹치지 않는다.
+     */
+    private void startGeneration(long now) {
+        generation = Math.max(now, generation + 1);
+        generationStartedAt = now;
+        version = 0;
+        listModifiedAt = now;
+        changes.clear();
+    }
+
+    private VoucherVersion toVersion(long version, long modifiedAt) {
+        return new VoucherVersion(Long.toString(generation, 36) + "-" + version, modifiedAt);
+    }
+
+    private static class Change {
+        private final long version;
+        private final long modifiedAt;
+
+        private Change(long version, long modifiedAt) {
+            this.version = version;
+            this.modifiedAt = modifiedAt;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import java.util.List;
+
+public class BulkWalletRequest {
+
+    private Long voucherId;
+    private List<Long> customerIds;
+
+    public BulkWalletRequest() {
+    }
+
+    public BulkWalletRequest(Long voucherId, List<Long> customerIds) {
+        this.voucherId = voucherId;
+        this.customerIds = customerIds;
+    }
+
+    public Long getVoucherId() {
+        return voucherId;
+    }
+
+    public List<Long> getCustomerIds() {
+        return customerIds;
+    }
+}
@@ -0,0 +1,55 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import java.util.List;
+
+/**
+ * 하나의 voucher 를 여러 customer 에게 발급한 결과. 발급하지 못한 customerId 는 사유와 함께 담긴다.
+ */
+public class BulkWalletResult {
+
+    private final Long voucherId;
+    private final int issuedCount;
+    private final List<Failure> failures;
+
+    public BulkWalletResult(Long voucherId, int issuedCount, List<Failure> failures) {
+        this.voucherId = voucherId;
+        this.issuedCount = issuedCount;
+        this.failures = failures;
+    }
+
+    public Long getVoucherId() {
+        return voucherId;
+    }
+
+    public int getIssuedCount() {
+        return issuedCount;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public static class Failure {
+
+        private final Long customerId;
+        private final String reason;
+
+        public Failure(Long customerId, String reason) {
+            this.customerId = customerId;
+            this.reason = reason;
+        }
+
+        public Long getCustomerId() {
+            return customerId;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "customerId=" + customerId + ", reason=" + reason;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.CustomerRepository;
+import com.prgrms.vouchermanagement.voucher.repository.VoucherRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * voucher 가 DB 에 저장되지 않는 프로파일에서는 JOIN 할 수 없으므로 customer 와 voucher 를 각각 조회해서 조합한다.
+ */
+@Repository
+@Profile("!database")
+public class CompositePortfolioRepository implements PortfolioRepository {
+
+    private final CustomerRepository customerRepository;
+    private final VoucherRepository voucherRepository;
+
+    public CompositePortfolioRepository(CustomerRepository customerRepository, VoucherRepository voucherRepository) {
+        this.customerRepository = customerRepository;
+        this.voucherRepository = voucherRepository;
+    }
+
+    @Override
+    public Optional<CustomerPortfolio> findCustomerPortfolio(Long customerId) {
+        return customerRepository.findById(customerId)
+                .map(customer -> new CustomerPortfolio(customer, voucherRepository.findVoucherByCustomer(customerId)));
+    }
+
+    @Override
+    public Optional<VoucherHolders> findVoucherHolders(Long voucherId) {
+        return voucherRepository.findById(voucherId)
+                .map(voucher -> new VoucherHolders(voucher, customerRepository.findCustomerByVoucher(voucherId)));
+    }
+}
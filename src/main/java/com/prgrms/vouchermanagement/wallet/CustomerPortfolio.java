@@ -0,0 +1,28 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.Customer;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+
+import java.util.List;
+
+/**
+ * customer 와 그 customer 의 wallet 에 있는 voucher 목록을 함께 조회하기 위한 read model
+ */
+public class CustomerPortfolio {
+
+    private final Customer customer;
+    private final List<Voucher> vouchers;
+
+    public CustomerPortfolio(Customer customer, List<Voucher> vouchers) {
+        this.customer = customer;
+        this.vouchers = vouchers;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public List<Voucher> getVouchers() {
+        return vouchers;
+    }
+}
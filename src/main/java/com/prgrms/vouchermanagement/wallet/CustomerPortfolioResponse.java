@@ -0,0 +1,29 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.CustomerResponse;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+
+import java.util.List;
+
+public class CustomerPortfolioResponse {
+
+    private final CustomerResponse customer;
+    private final List<VoucherResponse> vouchers;
+
+    public CustomerPortfolioResponse(CustomerResponse customer, List<VoucherResponse> vouchers) {
+        this.customer = customer;
+        this.vouchers = vouchers;
+    }
+
+    public static CustomerPortfolioResponse from(CustomerPortfolio portfolio) {
+        return new CustomerPortfolioResponse(CustomerResponse.from(portfolio.getCustomer()), VoucherResponse.fromList(portfolio.getVouchers()));
+    }
+
+    public CustomerResponse getCustomer() {
+        return customer;
+    }
+
+    public List<VoucherResponse> getVouchers() {
+        return vouchers;
+    }
+}
@@ -0,0 +1,128 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.Customer;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * customer(또는 voucher) 와 wallet 으로 연결된 반대편 목록을 LEFT JOIN 한 번으로 조회하고, 결과를 한 번 훑으며 read model 로 만든다.
+ * 화면에 필요한 컬럼만 조회하고, 같은 이름의 created_at 컬럼은 별칭으로 구분한다.
+ */
+@Repository
+@Profile("database")
+public class JdbcPortfolioRepository implements PortfolioRepository {
+
+    public static final String SELECT_CUSTOMER_PORTFOLIO_SQL = "SELECT c.customer_id, c.name, c.email, c.last_login_at, c.created_at AS customer_created_at, "
+            + "v.voucher_id, v.voucher_type, v.amount, v.created_at AS voucher_created_at "
+            + "FROM customer c "
+            + "LEFT JOIN voucher_wallet w ON w.customer_id = c.customer_id "
+            + "LEFT JOIN voucher v ON v.voucher_id = w.voucher_id "
+            + "WHERE c.customer_id = :customerId "
+            + "ORDER BY w.wallet_id";
+    public static final String SELECT_VOUCHER_HOLDERS_SQL = "SELECT v.voucher_id, v.voucher_type, v.amount, v.created_at AS voucher_created_at, "
+            + "c.customer_id, c.name, c.email, c.last_login_at, c.created_at AS customer_created_at "
+            + "FROM voucher v "
+            + "LEFT JOIN voucher_wallet w ON w.voucher_id = v.voucher_id "
+            + "LEFT JOIN customer c ON c.customer_id = w.customer_id "
+            + "WHERE v.voucher_id = :voucherId "
+            + "ORDER BY w.wallet_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    public JdbcPortfolioRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<CustomerPortfolio> findCustomerPortfolio(Long customerId) throws DataAccessException {
+        try {
+            return jdbcTemplate.query(SELECT_CUSTOMER_PORTFOLIO_SQL, Collections.singletonMap("customerId", customerId), rs -> {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+
+                Customer customer = mapCustomer(rs);
+                List<Voucher> vouchers = new ArrayList<>();
+                do {
+                    Voucher voucher = mapVoucher(rs);
+                    if (voucher != null) {
+                        vouchers.add(voucher);
+                    }
+                } while (rs.next());
+
+                return Optional.of(new CustomerPortfolio(customer, vouchers));
+            });
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<VoucherHolders> findVoucherHolders(Long voucherId) throws DataAccessException {
+        try {
+            return jdbcTemplate.query(SELECT_VOUCHER_HOLDERS_SQL, Collections.singletonMap("voucherId", voucherId), rs -> {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+
+                Voucher voucher = mapVoucher(rs);
+                List<Customer> customers = new ArrayList<>();
+                do {
+                    Customer customer = mapCustomer(rs);
+                    if (customer != null) {
+                        customers.add(customer);
+                    }
+                } while (rs.next());
+
+                return Optional.of(new VoucherHolders(voucher, customers));
+            });
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
+    /**
+     * LEFT JOIN 으로 연결된 행이 없으면 null 을 반환한다.
+     */
+    private Customer mapCustomer(ResultSet rs) throws SQLException {
+        long customerId = rs.getLong("customer_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+
+        Timestamp lastLoginAt = rs.getTimestamp("last_login_at");
+        return Customer.of(customerId, rs.getString("name"), rs.getString("email"),
+                lastLoginAt != null ? lastLoginAt.toLocalDateTime() : null,
+                rs.getTimestamp("customer_created_at").toLocalDateTime());
+    }
+
+    /**
+     * LEFT JOIN 으로 연결된 행이 없으면 null 을 반환한다.
+     */
+    private Voucher mapVoucher(ResultSet rs) throws SQLException {
+        long voucherId = rs.getLong("voucher_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+
+        VoucherType voucherType = VoucherType.valueOf(rs.getString("voucher_type"));
+        return voucherType.constructor(voucherId, rs.getInt("amount"), rs.getTimestamp("voucher_created_at").toLocalDateTime());
+    }
+}
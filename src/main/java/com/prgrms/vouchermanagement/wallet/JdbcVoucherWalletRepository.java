@@ -7,9 +7,11 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +23,9 @@ public class JdbcVoucherWalletRepository  implements VoucherWalletRepository {
     public static final String INSERT_WALLET_SQL = "INSERT INTO voucher_wallet(voucher_id, customer_id, created_at) VALUES (:voucherId, :customerId, :createdAt)";
     public static final String DELETE_SQL = "DELETE FROM voucher_wallet WHERE wallet_id=:walletId";
     public static final String SELECT_WALLET_BY_ID = "SELECT * FROM voucher_wallet WHERE wallet_id=:walletId";
+    public static final String SELECT_PAGE_SQL = "SELECT * FROM voucher_wallet WHERE wallet_id > :cursor ORDER BY wallet_id LIMIT :limit";
+
+    private static final int BATCH_SIZE = 1000;
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final Logger log = LoggerFactory.getLogger(getClass());
@@ -32,14 +37,34 @@ public class JdbcVoucherWalletRepository  implements VoucherWalletRepository {
     @Override
     public Long save(Wallet wallet) throws DataAccessException {
         GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
-        MapSqlParameterSource parameterSource = new MapSqlParameterSource()
-                .addValue("voucherId", wallet.getVoucherId())
-                .addValue("customerId", wallet.getCustomerId())
-                .addValue("createdAt", wallet.getCreatedAt());
-        jdbcTemplate.update(INSERT_WALLET_SQL, parameterSource, keyHolder, new String[]{"wallet_id"});
+        jdbcTemplate.update(INSERT_WALLET_SQL, toParameterSource(wallet), keyHolder, new String[]{"wallet_id"});
         return keyHolder.getKey().longValue();
     }
 
+    /**
+     * BATCH_SIZE 개씩 나누어 batch insert 한다.
+     * rewriteBatchedStatements 사용 시 driver 가 행별 결과 대신 SUCCESS_NO_INFO 를 반환하므로 성공 1건으로 센다.
+     */
+    @Override
+    public int saveAll(List<Wallet> wallets) throws DataAccessException {
+        try {
+            int savedCount = 0;
+            for (int from = 0; from < wallets.size(); from += BATCH_SIZE) {
+                SqlParameterSource[] parameterSources = wallets.subList(from, Math.min(from + BATCH_SIZE, wallets.size())).stream()
+                        .map(this::toParameterSource)
+                        .toArray(SqlParameterSource[]::new);
+
+                for (int updateCount : jdbcTemplate.batchUpdate(INSERT_WALLET_SQL, parameterSources)) {
+                    savedCount += updateCount == Statement.SUCCESS_NO_INFO ? 1 : updateCount;
+                }
+            }
+            return savedCount;
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
     @Override
     public void removeWallet(Long walletId) throws DataAccessException {
         try {
@@ -73,6 +98,26 @@ public class JdbcVoucherWalletRepository  implements VoucherWalletRepository {
         }
     }
 
+    @Override
+    public List<Wallet> findPage(Long cursor, int limit) throws DataAccessException {
+        try {
+            MapSqlParameterSource parameterSource = new MapSqlParameterSource()
+                    .addValue("cursor", cursor == null ? 0L : cursor)
+                    .addValue("limit", limit);
+            return jdbcTemplate.query(SELECT_PAGE_SQL, parameterSource, walletRowMapper);
+        } catch (DataAccessException e) {
+            log.error("fail to execute query", e);
+            throw e;
+        }
+    }
+
+    private MapSqlParameterSource toParameterSource(Wallet wallet) {
+        return new MapSqlParameterSource()
+                .addValue("voucherId", wallet.getVoucherId())
+                .addValue("customerId", wallet.getCustomerId())
+                .addValue("createdAt", wallet.getCreatedAt());
+    }
+
     private final RowMapper<Wallet> walletRowMapper = (rs, rowNum) -> {
         Long walletId = rs.getLong("wallet_id");
         Long voucherId = rs.getLong("voucher_id");
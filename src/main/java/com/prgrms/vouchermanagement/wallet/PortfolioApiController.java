@@ -0,0 +1,30 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+@RequestMapping("/api/v1")
+public class PortfolioApiController {
+
+    private final PortfolioService portfolioService;
+
+    public PortfolioApiController(PortfolioService portfolioService) {
+        this.portfolioService = portfolioService;
+    }
+
+    @GetMapping(value = "/customers/{customerId}/portfolio", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<CustomerPortfolioResponse> findCustomerPortfolio(@PathVariable Long customerId) {
+        return ResponseEntity.of(portfolioService.findCustomerPortfolio(customerId).map(CustomerPortfolioResponse::from));
+    }
+
+    @GetMapping(value = "/vouchers/{voucherId}/holders", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<VoucherHoldersResponse> findVoucherHolders(@PathVariable Long voucherId) {
+        return ResponseEntity.of(portfolioService.findVoucherHolders(voucherId).map(VoucherHoldersResponse::from));
+    }
+}
@@ -0,0 +1,16 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import java.util.Optional;
+
+public interface PortfolioRepository {
+
+    /**
+     * @return customer 가 없으면 Optional.empty(), wallet 이 비어 있으면 voucher 목록이 비어 있는 portfolio
+     */
+    Optional<CustomerPortfolio> findCustomerPortfolio(Long customerId);
+
+    /**
+     * @return voucher 가 없으면 Optional.empty(), 가진 customer 가 없으면 customer 목록이 비어 있는 결과
+     */
+    Optional<VoucherHolders> findVoucherHolders(Long voucherId);
+}
@@ -0,0 +1,33 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+public class PortfolioService {
+
+    private final PortfolioRepository portfolioRepository;
+
+    public PortfolioService(PortfolioRepository portfolioRepository) {
+        this.portfolioRepository = portfolioRepository;
+    }
+
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<CustomerPortfolio> findCustomerPortfolio(Long customerId) throws DataAccessException {
+        return portfolioRepository.findCustomerPortfolio(customerId);
+    }
+
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VoucherHolders> findVoucherHolders(Long voucherId) throws DataAccessException {
+        return portfolioRepository.findVoucherHolders(voucherId);
+    }
+}
@@ -0,0 +1,28 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.Customer;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+
+import java.util.List;
+
+/**
+ * voucher 와 그 voucher 를 wallet 에 가진 customer 목록을 함께 조회하기 위한 read model
+ */
+public class VoucherHolders {
+
+    private final Voucher voucher;
+    private final List<Customer> customers;
+
+    public VoucherHolders(Voucher voucher, List<Customer> customers) {
+        this.voucher = voucher;
+        this.customers = customers;
+    }
+
+    public Voucher getVoucher() {
+        return voucher;
+    }
+
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+}
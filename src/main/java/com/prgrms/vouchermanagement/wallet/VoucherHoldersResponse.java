@@ -0,0 +1,29 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.CustomerResponse;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+
+import java.util.List;
+
+public class VoucherHoldersResponse {
+
+    private final VoucherResponse voucher;
+    private final List<CustomerResponse> customers;
+
+    public VoucherHoldersResponse(VoucherResponse voucher, List<CustomerResponse> customers) {
+        this.voucher = voucher;
+        this.customers = customers;
+    }
+
+    public static VoucherHoldersResponse from(VoucherHolders voucherHolders) {
+        return new VoucherHoldersResponse(VoucherResponse.from(voucherHolders.getVoucher()), CustomerResponse.fromList(voucherHolders.getCustomers()));
+    }
+
+    public VoucherResponse getVoucher() {
+        return voucher;
+    }
+
+    public List<CustomerResponse> getCustomers() {
+        return customers;
+    }
+}
@@ -7,9 +7,19 @@ public interface VoucherWalletRepository {
 
     Long save(Wallet wallet);
 
+    /**
+     * 여러 wallet 을 batch 로 저장하고 저장된 개수를 반환한다.
+     */
+    int saveAll(List<Wallet> wallets);
+
     void removeWallet(Long walletId);
 
     Optional<Wallet> findWallet(Long walletId);
 
     List<Wallet> findAll();
+
+    /**
+     * walletId 가 cursor 보다 큰 wallet 을 walletId 순으로 최대 limit 개 조회한다. cursor 가 null 이면 처음부터 조회한다.
+     */
+    List<Wallet> findPage(Long cursor, int limit);
 }
@@ -1,11 +1,22 @@
 package com.prgrms.vouchermanagement.wallet;
 
+import com.prgrms.vouchermanagement.customer.BlackListRepository;
+import com.prgrms.vouchermanagement.customer.Customer;
 import com.prgrms.vouchermanagement.customer.CustomerService;
+import com.prgrms.vouchermanagement.discount.DiscountEngine;
+import com.prgrms.vouchermanagement.util.CursorPage;
 import com.prgrms.vouchermanagement.voucher.service.VoucherService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class VoucherWalletService {
@@ -13,38 +24,116 @@ public class VoucherWalletService {
     private final VoucherWalletRepository walletRepository;
     private final VoucherService voucherService;
     private final CustomerService customerService;
+    private final BlackListRepository blackListRepository;
+    private final DiscountEngine discountEngine;
 
-    public VoucherWalletService(VoucherWalletRepository walletRepository, VoucherService voucherService, CustomerService customerService) {
+    public VoucherWalletService(VoucherWalletRepository walletRepository, VoucherService voucherService, CustomerService customerService, BlackListRepository blackListRepository, DiscountEngine discountEngine) {
         this.walletRepository = walletRepository;
         this.voucherService = voucherService;
         this.customerService = customerService;
+        this.blackListRepository = blackListRepository;
+        this.discountEngine = discountEngine;
     }
 
     /**
+     * black list 에 있는 customer 에게는 voucher 를 발급하지 않는다.
+     *
+     * @throws IllegalArgumentException : 등록되지 않은 voucher, customer 이거나 black list 에 있는 customer 인 경우 던져진다.
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
+    @Transactional
     public Long addVoucherToWallet(Long customerId, Long voucherId) throws IllegalArgumentException, DataAccessException {
         validateVoucherId(voucherId);
-        validateCustomerId(customerId);
+        validateCustomer(customerId);
         Wallet wallet = Wallet.of(customerId, voucherId);
-        return walletRepository.save(wallet);
+        Long walletId = walletRepository.save(wallet);
+        discountEngine.invalidate(customerId);
+        voucherService.voucherListChanged();
+        return walletId;
+    }
+
+    /**
+     * 하나의 voucher 를 여러 customer 의 wallet 에 추가한다.
+     * customer 는 한 번의 조회로 가져오고, 등록되어 있고 black list 에 없는 customer 의 wallet 만 batch insert 한다.
+     * 등록되지 않았거나 중복되었거나 black list 에 있는 customerId 는 실패 사유와 함께 결과에 담긴다.
+     *
+     * @throws IllegalArgumentException : customerIds 가 null 이거나 등록되지 않은 voucherId 인 경우 던져진다.
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional
+    public BulkWalletResult addVoucherToWallets(Long voucherId, List<Long> customerIds) throws IllegalArgumentException, DataAccessException {
+        if (customerIds == null) {
+            throw new IllegalArgumentException("customerId 목록이 없습니다.");
+        }
+        validateVoucherId(voucherId);
+
+        List<BulkWalletResult.Failure> failures = new ArrayList<>();
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        for (Long customerId : customerIds) {
+            if (customerId == null) {
+                failures.add(new BulkWalletResult.Failure(null, "customerId가 없습니다."));
+            } else if (!requestedIds.add(customerId)) {
+                failures.add(new BulkWalletResult.Failure(customerId, "중복된 customerId입니다."));
+            }
+        }
+
+        Map<Long, Customer> registeredCustomers = new HashMap<>();
+        for (Customer customer : customerService.findRegisteredCustomers(requestedIds)) {
+            registeredCustomers.put(customer.getCustomerId(), customer);
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Wallet> wallets = new ArrayList<>(registeredCustomers.size());
+        for (Long customerId : requestedIds) {
+            Customer customer = registeredCustomers.get(customerId);
+            if (customer == null) {
+                failures.add(new BulkWalletResult.Failure(customerId, "등록되지 않은 Customer입니다."));
+            } else if (blackListRepository.isBlackListed(customer)) {
+                failures.add(new BulkWalletResult.Failure(customerId, "black list에 등록된 Customer입니다."));
+            } else {
+                wallets.add(Wallet.of(null, customerId, voucherId, createdAt));
+            }
+        }
+
+        int issuedCount = walletRepository.saveAll(wallets);
+        List<Long> issuedCustomerIds = new ArrayList<>(wallets.size());
+        wallets.forEach(wallet -> issuedCustomerIds.add(wallet.getCustomerId()));
+        discountEngine.invalidate(issuedCustomerIds);
+        voucherService.voucherListChanged();
+        return new BulkWalletResult(voucherId, issuedCount, failures);
     }
 
     /**
      * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
      */
     public void removeVoucherInWallet(Long walletId) throws IllegalArgumentException, DataAccessException {
-        validateWalletId(walletId);
+        Wallet wallet = findWallet(walletId);
         walletRepository.removeWallet(walletId);
+        discountEngine.invalidate(wallet.getCustomerId());
+        voucherService.voucherListChanged();
     }
 
+    @Transactional(readOnly = true)
     public List<Wallet> findAll() {
         return walletRepository.findAll();
     }
 
-    private void validateCustomerId(Long customerId) throws IllegalArgumentException {
-        if (!customerService.isRegisteredCustomer(customerId)) {
-            throw new IllegalArgumentException("등록되지 않은 Customer입니다.");
+    /**
+     * @throws DataAccessException : Repository에서 쿼리 실행에 문제가 발생한 경우 던져진다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Wallet> findPage(Long cursor, int size) throws DataAccessException {
+        int limitedSize = CursorPage.limitSize(size);
+        List<Wallet> wallets = walletRepository.findPage(cursor, limitedSize + 1);
+        return CursorPage.of(wallets, limitedSize, Wallet::getWalletId);
+    }
+
+    private void validateCustomer(Long customerId) throws IllegalArgumentException {
+        Customer customer = customerService.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 Customer입니다."));
+
+        if (blackListRepository.isBlackListed(customer)) {
+            throw new IllegalArgumentException("black list에 등록된 Customer입니다.");
         }
     }
 
@@ -54,9 +143,8 @@ public class VoucherWalletService {
         }
     }
 
-    private void validateWalletId(Long walletId) throws IllegalArgumentException {
-        if (walletRepository.findWallet(walletId).isEmpty()) {
-            throw new IllegalArgumentException("등록되지 않은 Wallet입니다.");
-        }
+    private Wallet findWallet(Long walletId) throws IllegalArgumentException {
+        return walletRepository.findWallet(walletId)
+                .orElseThrow(() -> new IllegalArgumentException("등록되지 않은 Wallet입니다."));
     }
 }
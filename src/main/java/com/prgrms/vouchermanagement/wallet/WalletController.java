@@ -1,11 +1,13 @@
 package com.prgrms.vouchermanagement.wallet;
 
+import com.prgrms.vouchermanagement.util.CursorPage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/wallets")
 public class WalletController {
@@ -17,9 +19,14 @@ public class WalletController {
     }
 
     @GetMapping
-    public String findAll(Model model) {
-        List<Wallet> wallets = walletService.findAll();
-        model.addAttribute("wallets", WalletResponse.fromList(wallets));
+    public String findAll(@RequestParam(required = false) Long cursor,
+                          @RequestParam(defaultValue = "20") int size,
+                          Model model) {
+        CursorPage<Wallet> walletPage = walletService.findPage(cursor, size);
+        model.addAttribute("wallets", WalletResponse.fromList(walletPage.getContent()));
+        model.addAttribute("cursor", cursor);
+        model.addAttribute("nextCursor", walletPage.getNextCursor());
+        model.addAttribute("size", CursorPage.limitSize(size));
         return "wallet/wallets";
     }
 
@@ -39,4 +46,11 @@ public class WalletController {
         walletService.addVoucherToWallet(walletRequest.getCustomerId(), walletRequest.getVoucherId());
         return "redirect:/wallets";
     }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<BulkWalletResult> addBulk(@RequestBody BulkWalletRequest bulkWalletRequest) {
+        BulkWalletResult result = walletService.addVoucherToWallets(bulkWalletRequest.getVoucherId(), bulkWalletRequest.getCustomerIds());
+        return new ResponseEntity<>(result, HttpStatus.CREATED);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.prgrms.vouchermanagement.wallet;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@JsonSerialize(using = WalletResponseSerializer.class)
 public class WalletResponse {
 
     private Long walletId;
@@ -20,7 +23,7 @@ public class WalletResponse {
     }
 
     public static WalletResponse from(Wallet wallet) {
-        return new WalletResponse(wallet.getWalletId(), wallet.getCustomerId(), wallet.getVoucherId(), wallet.getCreatedAt());
+        return new WalletResponse(wallet.getWalletId(), wallet.getVoucherId(), wallet.getCustomerId(), wallet.getCreatedAt());
     }
 
     public static List<WalletResponse> fromList(List<Wallet> wallets) {
@@ -0,0 +1,44 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.prgrms.vouchermanagement.util.IsoDateTimes;
+
+import java.io.IOException;
+
+/**
+ * WalletResponse 를 {"walletId", "voucherId", "customerId", "createdAt"} 순서로 쓴다. null 인 필드는 null 로 쓴다.
+ */
+public class WalletResponseSerializer extends StdSerializer<WalletResponse> {
+
+    public WalletResponseSerializer() {
+        super(WalletResponse.class);
+    }
+
+    @Override
+    public void serialize(WalletResponse walletResponse, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(walletResponse);
+        writeIdField(generator, "walletId", walletResponse.getWalletId());
+        writeIdField(generator, "voucherId", walletResponse.getVoucherId());
+        writeIdField(generator, "customerId", walletResponse.getCustomerId());
+
+        generator.writeFieldName("createdAt");
+        if (walletResponse.getCreatedAt() == null) {
+            generator.writeNull();
+        } else {
+            char[] buffer = new char[IsoDateTimes.BUFFER_SIZE];
+            generator.writeString(buffer, 0, IsoDateTimes.format(walletResponse.getCreatedAt(), buffer));
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeIdField(JsonGenerator generator, String fieldName, Long id) throws IOException {
+        if (id == null) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeNumberField(fieldName, id);
+        }
+    }
+}
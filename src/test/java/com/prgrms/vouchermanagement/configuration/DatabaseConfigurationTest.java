@@ -0,0 +1,93 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import com.prgrms.vouchermanagement.util.DatabaseProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("database")
+class DatabaseConfigurationTest {
+
+    private static final String DATABASE_NAME_SQL = "SELECT DATABASE()";
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    VoucherService voucherService;
+
+    @Test
+    @DisplayName("PlatformTransactionManager가 등록되고, readOnly 트랜잭션은 replica pool에서 실행된다.")
+    void readOnlyTransactionRoutingTest() {
+        // given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        TransactionTemplate readWriteTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        String readOnlyDatabase = readOnlyTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_NAME_SQL, String.class));
+        String readWriteDatabase = readWriteTemplate.execute(status -> jdbcTemplate.queryForObject(DATABASE_NAME_SQL, String.class));
+
+        // then
+        assertThat(readOnlyDatabase).isEqualToIgnoringCase("replica");
+        assertThat(readWriteDatabase).isEqualToIgnoringCase("primary");
+    }
+
+    @Test
+    @DisplayName("캐시에 보관할 voucher는 replica에 반영되지 않았어도 primary에서 조회된다.")
+    void cacheLoadFromPrimaryTest() {
+        // given
+        // 테스트의 replica 에는 schema 가 초기화되지 않으므로 replica 에서 조회하면 실패한다.
+        Long voucherId = voucherService.addVoucher(VoucherType.FIXED_DISCOUNT, 1000);
+
+        // when
+        Optional<Voucher> voucher = voucherService.findVoucherById(voucherId);
+        Map<Long, List<Voucher>> walletVouchers = voucherService.findVoucherByCustomersFromPrimary(List.of(1L));
+
+        // then
+        assertThat(voucher).get().extracting(Voucher::getAmount).isEqualTo(1000L);
+        assertThat(walletVouchers).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MySQL 전용 DataSource 속성은 MySQL url 에만 적용된다.")
+    void driverPropertiesTest() {
+        // given
+        DatabaseProperties.Pool pool = new DatabaseProperties.Pool("voucher-pool", 10, 10, Duration.ofSeconds(3),
+                Duration.ofMinutes(10), Duration.ofMinutes(30), true, 250, 2048, true, true);
+
+        // when
+        Map<String, Object> mysqlProperties = DatabaseConfiguration.driverProperties("jdbc:mysql://localhost:3306/voucher", pool);
+        Map<String, Object> h2Properties = DatabaseConfiguration.driverProperties("jdbc:h2:mem:primary", pool);
+
+        // then
+        assertThat(mysqlProperties)
+                .containsEntry("cachePrepStmts", true)
+                .containsEntry("prepStmtCacheSize", 250)
+                .containsEntry("prepStmtCacheSqlLimit", 2048)
+                .containsEntry("useServerPrepStmts", true)
+                .containsEntry("rewriteBatchedStatements", true);
+        assertThat(h2Properties).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM voucher";
+
+    EmbeddedDatabase primary;
+    EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase();
+        replica = createDatabase();
+        new JdbcTemplate(replica).update("INSERT INTO voucher(voucher_type, amount) VALUES ('FIXED_DISCOUNT', 1000)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica에서, 그 외의 트랜잭션은 primary에서 실행된다.")
+    void routingTest() {
+        // given
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(5)));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnlyTemplate = createTransactionTemplate(dataSource, true);
+        TransactionTemplate readWriteTemplate = createTransactionTemplate(dataSource, false);
+
+        // when
+        Integer readOnlyCount = readOnlyTemplate.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Integer.class));
+        Integer readWriteCount = readWriteTemplate.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Integer.class));
+        Integer nonTransactionalCount = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+
+        // then
+        assertThat(readOnlyCount).isEqualTo(1);
+        assertThat(readWriteCount).isZero();
+        assertThat(nonTransactionalCount).isZero();
+    }
+
+    @Test
+    @DisplayName("replica에서 connection을 얻지 못하면 primary에서 조회한다.")
+    void fallbackTest() {
+        // given
+        DataSource unavailableReplica = new DriverManagerDataSource("jdbc:h2:tcp://127.0.0.1:1/unavailable");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, unavailableReplica, Duration.ofSeconds(5)));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnlyTemplate = createTransactionTemplate(dataSource, true);
+
+        // when
+        Integer count = readOnlyTemplate.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Integer.class));
+
+        // then
+        assertThat(count).isZero();
+    }
+
+    private EmbeddedDatabase createDatabase() {
+        return new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("voucher_schema.sql")
+                .setScriptEncoding("UTF-8")
+                .build();
+    }
+
+    private TransactionTemplate createTransactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,117 @@
+package com.prgrms.vouchermanagement.configuration;
+
+import com.prgrms.vouchermanagement.customer.CustomerResponse;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static com.prgrms.vouchermanagement.voucher.VoucherType.PERCENT_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseXmlHttpMessageConverterTest {
+
+    private static final String VOUCHER_ELEMENT = "com.prgrms.vouchermanagement.voucher.controller.VoucherResponse";
+
+    ResponseXmlHttpMessageConverter converter = new ResponseXmlHttpMessageConverter();
+
+    @Test
+    @DisplayName("VoucherResponse 목록은 XStream과 같이 list 요소 아래에 클래스 이름의 요소로 쓰고, null인 필드는 생략한다.")
+    void writeVoucherResponsesTest() throws IOException {
+        // given
+        List<VoucherResponse> voucherResponses = new ArrayList<>();
+        voucherResponses.add(new VoucherResponse(1L, 1000, FIXED_DISCOUNT, LocalDateTime.of(2022, 5, 1, 10, 0, 0, 120_000_000)));
+        voucherResponses.add(new VoucherResponse(null, 10, PERCENT_DISCOUNT, null));
+
+        // when
+        String xml = write(voucherResponses);
+
+        // then
+        assertThat(xml).isEqualTo("<list>"
+                + "<" + VOUCHER_ELEMENT + "><voucherId>1</voucherId><amount>1000</amount><voucherType>FIXED_DISCOUNT</voucherType>"
+                + "<createdAt>2022-05-01T10:00:00.12</createdAt></" + VOUCHER_ELEMENT + ">"
+                + "<" + VOUCHER_ELEMENT + "><amount>10</amount><voucherType>PERCENT_DISCOUNT</voucherType></" + VOUCHER_ELEMENT + ">"
+                + "</list>");
+    }
+
+    @Test
+    @DisplayName("문자열 필드의 XML 특수 문자는 escape 된다.")
+    void writeCustomerResponseTest() throws IOException {
+        // given
+        CustomerResponse customerResponse = new CustomerResponse(1L, "<aaa & bbb>", "aaa@gmail.com", LocalDateTime.of(2022, 5, 1, 10, 0));
+
+        // when
+        String xml = write(customerResponse);
+
+        // then
+        assertThat(xml).isEqualTo("<com.prgrms.vouchermanagement.customer.CustomerResponse>"
+                + "<customerId>1</customerId><name>&lt;aaa &amp; bbb&gt;</name><email>aaa@gmail.com</email><createdAt>2022-05-01T10:00:00</createdAt>"
+                + "</com.prgrms.vouchermanagement.customer.CustomerResponse>");
+    }
+
+    @Test
+    @DisplayName("VoucherBatch는 VoucherResponse 목록과 같은 XML로 쓰인다.")
+    void writeVoucherBatchTest() throws IOException {
+        // given
+        List<Voucher> vouchers = List.of(
+                FIXED_DISCOUNT.constructor(1L, 1000, LocalDateTime.of(2022, 5, 1, 10, 0)),
+                PERCENT_DISCOUNT.constructor(2L, 10, LocalDateTime.of(2022, 12, 31, 23, 59, 59, 120_000_000)));
+
+        // when
+        String xml = write(VoucherBatch.of(vouchers));
+
+        // then
+        assertThat(xml).isEqualTo(write(VoucherResponse.fromList(vouchers)));
+    }
+
+    @Test
+    @DisplayName("원소가 응답 타입인 Collection만 쓰고, 그 밖의 타입은 XStream converter에 넘긴다.")
+    void canWriteTest() {
+        // given
+        Type voucherResponses = new ParameterizedTypeReference<List<VoucherResponse>>() {}.getType();
+        Type names = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+        // when, then
+        assertThat(converter.canWrite(voucherResponses, ArrayList.class, MediaType.APPLICATION_XML)).isTrue();
+        assertThat(converter.canWrite(VoucherBatch.class, VoucherBatch.class, MediaType.APPLICATION_XML)).isTrue();
+        assertThat(converter.canWrite(names, ArrayList.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(String.class, String.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(VoucherResponse.class, VoucherResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(VoucherResponse.class, null, MediaType.APPLICATION_XML)).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 전용이므로 읽을 수 없고, read를 호출하면 HttpMessageNotReadableException이 발생한다.")
+    void readTest() {
+        // given
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage("<list/>".getBytes(StandardCharsets.UTF_8));
+
+        // when, then
+        assertThat(converter.canRead(VoucherResponse.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThatThrownBy(() -> converter.read(VoucherResponse.class, null, inputMessage))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+        assertThatThrownBy(() -> converter.read(VoucherResponse.class, inputMessage))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    private String write(Object response) throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(response, null, MediaType.APPLICATION_XML, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+}
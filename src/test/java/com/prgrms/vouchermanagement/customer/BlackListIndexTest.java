@@ -0,0 +1,78 @@
+package com.prgrms.vouchermanagement.customer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlackListIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("name과 email의 앞뒤 공백, CRLF, BOM, 빈 줄을 무시하고 인덱스를 만든다.")
+    void loadTest() throws IOException {
+        // given
+        Path blackListPath = tempDir.resolve("customer_black_list.csv");
+        Files.write(blackListPath, "﻿ aaa \r\n\r\nbbb, BBB@Gmail.com \r\n,nameless@gmail.com\n김철수".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        BlackListIndex blackListIndex = BlackListIndex.load(blackListPath);
+
+        // then
+        assertThat(blackListIndex.size()).isEqualTo(3);
+        assertThat(blackListIndex.containsName("aaa")).isTrue();
+        assertThat(blackListIndex.containsName("bbb")).isTrue();
+        assertThat(blackListIndex.containsName("김철수")).isTrue();
+        assertThat(blackListIndex.containsName("ccc")).isFalse();
+        assertThat(blackListIndex.containsEmail("bbb@gmail.com")).isTrue();
+        assertThat(blackListIndex.containsEmail("BBB@GMAIL.COM")).isTrue();
+        assertThat(blackListIndex.containsEmail("nameless@gmail.com")).isFalse();
+        assertThat(blackListIndex.toCustomers()).extracting(Customer::getName).containsExactly("aaa", "bbb", "김철수");
+    }
+
+    @Test
+    @DisplayName("많은 수의 black list도 모두 찾을 수 있다.")
+    void loadManyEntriesTest() throws IOException {
+        // given
+        int entryCount = 100000;
+        Path blackListPath = tempDir.resolve("customer_black_list.csv");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < entryCount; i++) {
+            sb.append("customer").append(i).append(",customer").append(i).append("@gmail.com\n");
+        }
+        Files.write(blackListPath, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        // when
+        BlackListIndex blackListIndex = BlackListIndex.load(blackListPath);
+
+        // then
+        assertThat(blackListIndex.size()).isEqualTo(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            assertThat(blackListIndex.containsName("customer" + i)).isTrue();
+            assertThat(blackListIndex.containsEmail("customer" + i + "@gmail.com")).isTrue();
+        }
+        assertThat(blackListIndex.containsName("customer" + entryCount)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 파일은 빈 인덱스가 된다.")
+    void loadEmptyFileTest() throws IOException {
+        // given
+        Path blackListPath = Files.createFile(tempDir.resolve("customer_black_list.csv"));
+
+        // when
+        BlackListIndex blackListIndex = BlackListIndex.load(blackListPath);
+
+        // then
+        assertThat(blackListIndex.size()).isZero();
+        assertThat(blackListIndex.containsName("aaa")).isFalse();
+    }
+}
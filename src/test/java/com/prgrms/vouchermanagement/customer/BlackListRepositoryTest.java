@@ -0,0 +1,81 @@
+package com.prgrms.vouchermanagement.customer;
+
+import com.prgrms.vouchermanagement.util.FilePathProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlackListRepositoryTest {
+
+    private static final String BLACK_LIST_FILE = "customer_black_list.csv";
+
+    @TempDir
+    Path tempDir;
+
+    BlackListRepository blackListRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.write(tempDir.resolve(BLACK_LIST_FILE), List.of("aaa", "bbb,BBB@gmail.com"), StandardCharsets.UTF_8);
+        FilePathProperties filePathProperties = new FilePathProperties(null, BLACK_LIST_FILE, tempDir.toString(), null, null, null, null);
+        blackListRepository = new BlackListRepository(filePathProperties);
+        blackListRepository.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blackListRepository.destroy();
+    }
+
+    @Test
+    @DisplayName("black list 파일의 name이나 email과 같은 Customer는 black list에 있다.")
+    void isBlackListedTest() {
+        // when
+        boolean sameName = blackListRepository.isBlackListed(Customer.of("aaa", "aaa@gmail.com"));
+        boolean sameEmail = blackListRepository.isBlackListed(Customer.of("ccc", "bbb@gmail.com"));
+        boolean notBlackListed = blackListRepository.isBlackListed(Customer.of("ccc", "ccc@gmail.com"));
+
+        // then
+        assertThat(sameName).isTrue();
+        assertThat(sameEmail).isTrue();
+        assertThat(notBlackListed).isFalse();
+        assertThat(blackListRepository.findAll()).extracting(Customer::getName).containsExactly("aaa", "bbb");
+    }
+
+    @Test
+    @DisplayName("black list 파일을 다시 읽으면 변경된 black list로 교체된다.")
+    void reloadTest() throws IOException {
+        // given
+        Files.write(tempDir.resolve(BLACK_LIST_FILE), List.of("ccc"), StandardCharsets.UTF_8);
+
+        // when
+        blackListRepository.reload();
+
+        // then
+        assertThat(blackListRepository.isBlackListed(Customer.of("aaa", "aaa@gmail.com"))).isFalse();
+        assertThat(blackListRepository.isBlackListed(Customer.of("ccc", "ccc@gmail.com"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("black list 파일을 읽지 못하면 기존 black list를 유지한다.")
+    void reloadNotExistsFileTest() throws IOException {
+        // given
+        Files.delete(tempDir.resolve(BLACK_LIST_FILE));
+
+        // when
+        blackListRepository.reload();
+
+        // then
+        assertThat(blackListRepository.isBlackListed(Customer.of("aaa", "aaa@gmail.com"))).isTrue();
+    }
+}
@@ -200,6 +200,23 @@ class CustomerNamedJdbcRepositoryTest {
         assertThat(findCustomer).usingRecursiveComparison().isEqualTo(updateCustomer);
     }
 
+    @Test
+    @DisplayName("cursor 이후의 Customer를 customerId 순으로 limit 개 조회한다.")
+    void findPageTest() {
+        // given
+        Long customerId1 = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+        Long customerId2 = customerRepository.save(Customer.of("bbb", "bbb@gmail.com"));
+        Long customerId3 = customerRepository.save(Customer.of("ccc", "ccc@gmail.com"));
+
+        // when
+        List<Customer> firstPage = customerRepository.findPage(null, 2);
+        List<Customer> secondPage = customerRepository.findPage(customerId2, 2);
+
+        // then
+        assertThat(firstPage).extracting(Customer::getCustomerId).containsExactly(customerId1, customerId2);
+        assertThat(secondPage).extracting(Customer::getCustomerId).containsExactly(customerId3);
+    }
+
     @Test
     @DisplayName("모든 Customer를 조회한다.")
     void findAll() {
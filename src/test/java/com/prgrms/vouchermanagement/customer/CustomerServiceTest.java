@@ -96,6 +96,39 @@ class CustomerServiceTest {
                 .hasMessageContaining("중복된 email입니다");
     }
 
+    @Test
+    @DisplayName("서비스를 통해 추가한 email로 다시 Customer를 추가하면 예외가 발생한다.")
+    void addCustomerDuplicateEmailAfterAddTest() {
+        // given
+        String duplicateEmail = "duplicate@gmail.com";
+        customerService.addCustomer("aaa", duplicateEmail);
+
+        // then
+        assertThatThrownBy(() -> {
+            // when
+            customerService.addCustomer("bbb", duplicateEmail);
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("중복된 email입니다");
+        assertThat(customerRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("bloom filter를 다시 만들면 이미 등록된 email이 반영된다.")
+    void rebuildEmailFilterTest() {
+        // given
+        String email = "aaa@gmail.com";
+        customerRepository.save(Customer.of("aaa", email));
+
+        // when
+        customerService.rebuildEmailFilter();
+
+        // then
+        assertThatThrownBy(() -> customerService.addCustomer("bbb", email))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("중복된 email입니다");
+    }
+
     @Test
     @DisplayName("email을 입력받아 등록된 Customer인지 확인한다.")
     void isRegisteredCustomerByEmailTest() {
@@ -150,4 +183,20 @@ class CustomerServiceTest {
         // then
         assertThat(registeredCustomer).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Customer를 삭제하면 true를, 등록되지 않은 Id로 삭제하면 false를 반환한다.")
+    void removeCustomerTest() {
+        // given
+        Long customerId = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+
+        // when
+        boolean removed = customerService.removeCustomer(customerId);
+        boolean removedAgain = customerService.removeCustomer(customerId);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(customerService.isRegisteredCustomer(customerId)).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package com.prgrms.vouchermanagement.customer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 email은 항상 mightContain이 true이다.")
+    void noFalseNegativeTest() {
+        // given
+        int emailCount = 10000;
+        EmailBloomFilter emailFilter = new EmailBloomFilter(emailCount, 0.01);
+
+        // when
+        for (int i = 0; i < emailCount; i++) {
+            emailFilter.put("customer" + i + "@gmail.com");
+        }
+
+        // then
+        for (int i = 0; i < emailCount; i++) {
+            assertThat(emailFilter.mightContain("customer" + i + "@gmail.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("email은 대소문자를 구분하지 않고 확인한다.")
+    void ignoreCaseTest() {
+        // given
+        EmailBloomFilter emailFilter = new EmailBloomFilter(100, 0.01);
+
+        // when
+        emailFilter.put("Customer@Gmail.com");
+
+        // then
+        assertThat(emailFilter.mightContain("customer@gmail.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 email의 false positive 비율은 설정한 비율 근처로 유지된다.")
+    void falsePositiveProbabilityTest() {
+        // given
+        int emailCount = 10000;
+        EmailBloomFilter emailFilter = new EmailBloomFilter(emailCount, 0.01);
+        for (int i = 0; i < emailCount; i++) {
+            emailFilter.put("customer" + i + "@gmail.com");
+        }
+
+        // when
+        int falsePositiveCount = 0;
+        for (int i = 0; i < emailCount; i++) {
+            if (emailFilter.mightContain("other" + i + "@naver.com")) {
+                falsePositiveCount++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositiveCount / emailCount).isLessThan(0.03);
+    }
+}
@@ -0,0 +1,189 @@
+package com.prgrms.vouchermanagement.discount;
+
+import com.prgrms.vouchermanagement.util.DiscountProperties;
+import com.prgrms.vouchermanagement.voucher.service.VoucherChangedEvent;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static com.prgrms.vouchermanagement.voucher.VoucherType.PERCENT_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountEngineTest {
+
+    @Mock
+    VoucherService voucherService;
+
+    DiscountEngine discountEngine;
+
+    @BeforeEach
+    void setUp() {
+        discountEngine = new DiscountEngine(voucherService, new DiscountProperties(1000, 4, 100, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("wallet의 voucher 중 가장 많이 할인되는 voucher를 적용한 가격을 계산한다.")
+    void evaluateTest() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(voucherService.findVoucherByCustomersFromPrimary(List.of(1L))).thenReturn(Map.of(1L, List.of(
+                FIXED_DISCOUNT.constructor(10L, 1000, createdAt),
+                FIXED_DISCOUNT.constructor(11L, 3000, createdAt),
+                PERCENT_DISCOUNT.constructor(12L, 10, createdAt))));
+
+        // when
+        DiscountEvaluation evaluation = discountEngine.evaluate(new long[]{1L, 1L, 1L}, new long[]{10000, 50000, 2000});
+
+        // then
+        assertThat(evaluation.getFinalPrices()).containsExactly(7000, 45000, 0);
+        assertThat(evaluation.getAppliedVoucherIds()).containsExactly(11L, 12L, 11L);
+    }
+
+    @Test
+    @DisplayName("wallet이 비어 있는 customer의 가격은 할인하지 않는다.")
+    void evaluateEmptyWalletTest() {
+        // given
+        when(voucherService.findVoucherByCustomersFromPrimary(List.of(2L))).thenReturn(Collections.emptyMap());
+
+        // when
+        DiscountEvaluation evaluation = discountEngine.evaluate(new long[]{2L}, new long[]{10000});
+
+        // then
+        assertThat(evaluation.getFinalPrices()).containsExactly(10000);
+        assertThat(evaluation.getAppliedVoucherIds()).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("여러 chunk로 나누어 계산해도 요청 순서대로 결과를 반환하고, 모든 customer의 wallet을 한 번에 조회한다.")
+    void evaluateParallelTest() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now();
+        when(voucherService.findVoucherByCustomersFromPrimary(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> requestedCustomerIds = invocation.getArgument(0);
+            return requestedCustomerIds.stream().collect(Collectors.toMap(Function.identity(),
+                    customerId -> List.of(FIXED_DISCOUNT.constructor(customerId * 100, customerId * 100, createdAt))));
+        });
+
+        int size = 100;
+        long[] customerIds = new long[size];
+        long[] prices = new long[size];
+        for (int i = 0; i < size; i++) {
+            customerIds[i] = i % 7 + 1;
+            prices[i] = 10000 + i;
+        }
+
+        // when
+        DiscountEvaluation evaluation = discountEngine.evaluate(customerIds, prices);
+
+        // then
+        for (int i = 0; i < size; i++) {
+            assertThat(evaluation.getFinalPrices()[i]).isEqualTo(prices[i] - customerIds[i] * 100);
+            assertThat(evaluation.getAppliedVoucherIds()[i]).isEqualTo(customerIds[i] * 100);
+        }
+        verify(voucherService, times(1)).findVoucherByCustomersFromPrimary(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+    }
+
+    @Test
+    @DisplayName("캐시된 wallet은 다시 조회하지 않고, invalidate 하면 다시 조회한다.")
+    void evaluateCachedWalletTest() {
+        // given
+        when(voucherService.findVoucherByCustomersFromPrimary(List.of(1L))).thenReturn(Collections.emptyMap());
+        discountEngine.evaluate(new long[]{1L}, new long[]{10000});
+        discountEngine.evaluate(new long[]{1L}, new long[]{20000});
+
+        // when
+        discountEngine.invalidate(1L);
+        discountEngine.evaluate(new long[]{1L}, new long[]{30000});
+
+        // then
+        verify(voucherService, times(2)).findVoucherByCustomersFromPrimary(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 invalidate 하면 commit 된 뒤에 캐시를 비운다.")
+    void invalidateAfterCommitTest() {
+        // given
+        when(voucherService.findVoucherByCustomersFromPrimary(List.of(1L))).thenReturn(Collections.emptyMap());
+        discountEngine.evaluate(new long[]{1L}, new long[]{10000});
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            discountEngine.invalidate(1L);
+            discountEngine.evaluate(new long[]{1L}, new long[]{20000});
+            verify(voucherService, times(1)).findVoucherByCustomersFromPrimary(List.of(1L));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        discountEngine.evaluate(new long[]{1L}, new long[]{30000});
+
+        // then
+        verify(voucherService, times(2)).findVoucherByCustomersFromPrimary(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("voucher가 변경되면 모든 customer의 캐시를 비운다.")
+    void onVoucherChangedTest() {
+        // given
+        when(voucherService.findVoucherByCustomersFromPrimary(anyCollection())).thenReturn(Collections.emptyMap());
+        discountEngine.evaluate(new long[]{1L, 2L}, new long[]{10000, 20000});
+
+        // when
+        discountEngine.onVoucherChanged(new VoucherChangedEvent(voucherService, 10L));
+        discountEngine.evaluate(new long[]{1L, 2L}, new long[]{10000, 20000});
+
+        // then
+        verify(voucherService, times(2)).findVoucherByCustomersFromPrimary(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("customerId와 가격의 개수가 다르거나 음수 가격이 있으면 예외가 발생한다.")
+    void evaluateInvalidRequestTest() {
+        assertThatThrownBy(() -> discountEngine.evaluate(new long[]{1L, 2L}, new long[]{1000}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("개수가 일치하지 않습니다");
+
+        assertThatThrownBy(() -> discountEngine.evaluate(new long[]{1L}, new long[]{-1000}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0보다 작은 가격");
+
+        verify(voucherService, never()).findVoucherByCustomersFromPrimary(anyCollection());
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 customer는 제외하고 없는 customer의 wallet만 모아 조회한다.")
+    void evaluateMissedWalletsTest() {
+        // given
+        when(voucherService.findVoucherByCustomersFromPrimary(anyCollection())).thenReturn(Collections.emptyMap());
+        discountEngine.evaluate(new long[]{2L}, new long[]{10000});
+
+        // when
+        discountEngine.evaluate(new long[]{3L, 2L, 1L, 3L}, new long[]{10000, 20000, 30000, 40000});
+
+        // then
+        verify(voucherService).findVoucherByCustomersFromPrimary(List.of(2L));
+        verify(voucherService).findVoucherByCustomersFromPrimary(List.of(1L, 3L));
+    }
+}
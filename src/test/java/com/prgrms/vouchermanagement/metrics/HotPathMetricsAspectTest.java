@@ -0,0 +1,101 @@
+package com.prgrms.vouchermanagement.metrics;
+
+import com.prgrms.vouchermanagement.util.VoucherProperties;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import com.prgrms.vouchermanagement.voucher.repository.JdbcVoucherRepository;
+import com.prgrms.vouchermanagement.voucher.repository.VoucherSearchCondition;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotPathMetricsAspectTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    HotPathMetricsAspect aspect = new HotPathMetricsAspect(meterRegistry, new double[]{0.5, 0.99});
+
+    EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("voucher_schema.sql")
+            .setScriptEncoding("UTF-8")
+            .build();
+
+    JdbcVoucherRepository voucherRepository = proxy(new JdbcVoucherRepository(new NamedParameterJdbcTemplate(dataSource)));
+    VoucherService voucherService = proxy(new VoucherService(voucherRepository, new VoucherProperties(100, 100, Duration.ofMinutes(1)), event -> {}));
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("service와 repository 메서드 호출 시간이 메서드별 timer에 기록된다.")
+    void timerTest() {
+        // when
+        voucherService.addVoucher(VoucherType.FIXED_DISCOUNT, 1000);
+        voucherService.addVoucher(VoucherType.FIXED_DISCOUNT, 2000);
+
+        // then
+        assertThat(meterRegistry.get(HotPathMetricsAspect.SERVICE_TIMER)
+                .tag("class", "VoucherService")
+                .tag("method", "addVoucher")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(HotPathMetricsAspect.REPOSITORY_TIMER)
+                .tag("class", "JdbcVoucherRepository")
+                .tag("method", "save")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("VoucherSearchCondition 조회는 적용된 SelectCondition 조합별로 기록된다.")
+    void conditionTagTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        voucherRepository.findByCondition(VoucherSearchCondition.of(null, VoucherType.FIXED_DISCOUNT, now.minusDays(1), now, null));
+        voucherRepository.findByCondition(VoucherSearchCondition.all());
+
+        // then
+        assertThat(meterRegistry.get(HotPathMetricsAspect.REPOSITORY_TIMER)
+                .tag("condition", "TYPE+PERIOD")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(HotPathMetricsAspect.REPOSITORY_TIMER)
+                .tag("condition", "ALL")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 예외 종류별 error counter가 증가한다.")
+    void errorCounterTest() {
+        // when
+        assertThatThrownBy(() -> voucherService.addVoucher(VoucherType.PERCENT_DISCOUNT, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(meterRegistry.get(HotPathMetricsAspect.ERROR_COUNTER)
+                .tag("method", "addVoucher")
+                .tag("exception", "IllegalArgumentException")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,25 @@
+package com.prgrms.vouchermanagement.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiscountPropertiesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    @DisplayName("chunkSize가 0 이하이면 예외가 발생한다.")
+    void invalidChunkSizeTest(int chunkSize) {
+        // then
+        assertThatThrownBy(() -> {
+            // when
+            new DiscountProperties(1000, chunkSize, 100, Duration.ofMinutes(1));
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("chunkSize");
+    }
+}
@@ -0,0 +1,25 @@
+package com.prgrms.vouchermanagement.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VoucherPropertiesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    @DisplayName("batchSize가 0 이하이면 예외가 발생한다.")
+    void invalidBatchSizeTest(int batchSize) {
+        // then
+        assertThatThrownBy(() -> {
+            // when
+            new VoucherProperties(batchSize, 100, Duration.ofMinutes(1));
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batchSize");
+    }
+}
@@ -0,0 +1,59 @@
+package com.prgrms.vouchermanagement.voucher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static com.prgrms.vouchermanagement.voucher.VoucherType.PERCENT_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VoucherBatchTest {
+
+    @Test
+    @DisplayName("용량을 넘게 추가해도 추가한 순서대로 값을 조회하고, clear 하면 비워진다.")
+    void addAndClearTest() {
+        // given
+        VoucherBatch voucherBatch = new VoucherBatch(1);
+        LocalDateTime createdAt = LocalDateTime.of(2022, 5, 1, 10, 0, 0, 123_000_000);
+
+        // when
+        voucherBatch.add(FIXED_DISCOUNT.constructor(1L, 1000, createdAt));
+        voucherBatch.add(PERCENT_DISCOUNT.constructor(2L, 10, createdAt));
+
+        // then
+        assertThat(voucherBatch.size()).isEqualTo(2);
+        assertThat(voucherBatch.getVoucherType(1)).isEqualTo(PERCENT_DISCOUNT);
+        assertThat(voucherBatch.toVoucher(0)).usingRecursiveComparison().isEqualTo(FIXED_DISCOUNT.constructor(1L, 1000, createdAt));
+
+        voucherBatch.clear();
+        assertThat(voucherBatch.isEmpty()).isTrue();
+        assertThatThrownBy(() -> voucherBatch.getVoucherId(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("VoucherBatch는 VoucherResponse 목록과 같은 JSON으로 쓰인다.")
+    void serializeTest() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        List<Voucher> vouchers = List.of(
+                FIXED_DISCOUNT.constructor(1L, 1000, LocalDateTime.of(2022, 5, 1, 10, 0)),
+                PERCENT_DISCOUNT.constructor(2L, 10, LocalDateTime.of(2022, 12, 31, 23, 59, 59, 120_000_000)),
+                FIXED_DISCOUNT.constructor(3L, 500, LocalDateTime.of(1969, 7, 20, 20, 17, 40, 1_000_000)));
+
+        // when
+        String batchJson = objectMapper.writeValueAsString(VoucherBatch.of(vouchers));
+
+        // then
+        assertThat(batchJson).isEqualTo(objectMapper.writeValueAsString(VoucherResponse.fromList(vouchers)));
+    }
+}
@@ -41,4 +41,31 @@ class VoucherTest {
     void fixedVoucherDiscountText(int amount) {
         Assertions.assertThrows(IllegalArgumentException.class, () -> FIXED_DISCOUNT.constructor(amount, LocalDateTime.now()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("FixedVoucher 의 할인 금액이 가격보다 크면 0원이 된다.")
+    void fixedVoucherDiscountOverPriceTest() {
+        // given
+        Voucher voucher = FIXED_DISCOUNT.constructor(5000, LocalDateTime.now());
+
+        // when
+        long discountedPrice = voucher.discount(3000);
+
+        // then
+        assertThat(discountedPrice).isZero();
+    }
+
+    @Test
+    @DisplayName("PercentVoucher 는 가격에서 할인율만큼 뺀 가격을 반환하고, 원 단위 미만은 버린다.")
+    void percentVoucherDiscountTest() {
+        // given
+        Voucher voucher = PERCENT_DISCOUNT.constructor(15, LocalDateTime.now());
+
+        // when
+        long discountedPrice = voucher.discount(10050);
+
+        // then
+        assertThat(discountedPrice).isEqualTo(10050 - 1507);
+        assertThat(voucher.discount(Long.MAX_VALUE)).isPositive();
+    }
+}
@@ -0,0 +1,306 @@
+package com.prgrms.vouchermanagement.voucher.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.vouchermanagement.util.AsyncProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+import com.prgrms.vouchermanagement.voucher.service.VoucherService;
+import com.prgrms.vouchermanagement.voucher.service.VoucherVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.xml.MarshallingHttpMessageConverter;
+import org.springframework.oxm.xstream.XStreamMarshaller;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoucherApiControllerTest {
+
+    private static final VoucherVersion VERSION = new VoucherVersion("abc-1", Instant.parse("2022-05-01T10:00:00Z").toEpochMilli());
+    private static final String ETAG = "\"abc-1\"";
+    private static final AsyncProperties ASYNC_PROPERTIES = new AsyncProperties(16, 200, Duration.ofSeconds(10), 4, 16, Duration.ofMinutes(10));
+    private static final AsyncTaskExecutor EXPORT_EXECUTOR = new ConcurrentTaskExecutor(Runnable::run);
+
+    @Mock
+    VoucherService voucherService;
+
+    @Test
+    @DisplayName("voucher 조회는 executor에서 실행되고 비동기로 응답한다.")
+    void findByIdAsyncTest() throws Exception {
+        // given
+        Long voucherId = 1L;
+        Voucher voucher = FIXED_DISCOUNT.constructor(voucherId, 1000, LocalDateTime.now());
+        when(voucherService.getVoucherVersion(voucherId)).thenReturn(VERSION);
+        when(voucherService.findVoucherById(voucherId)).thenReturn(Optional.of(voucher));
+        MockMvc mockMvc = createMockMvc(Runnable::run);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers/{voucherId}", voucherId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.voucherId").value(voucherId))
+                .andExpect(jsonPath("$.amount").value(1000));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 voucher의 현재 버전과 같으면 조회하지 않고 304 Not Modified로 응답한다.")
+    void findByIdNotModifiedTest() throws Exception {
+        // given
+        Long voucherId = 1L;
+        when(voucherService.getVoucherVersion(voucherId)).thenReturn(VERSION);
+        MockMvc mockMvc = createMockMvc(command -> {
+            throw new AssertionError("executor must not be used");
+        });
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers/{voucherId}", voucherId).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+        verify(voucherService, never()).findVoucherById(voucherId);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 이전 버전이면 다시 조회한다.")
+    void findByIdModifiedTest() throws Exception {
+        // given
+        Long voucherId = 1L;
+        Voucher voucher = FIXED_DISCOUNT.constructor(voucherId, 1000, LocalDateTime.now());
+        when(voucherService.getVoucherVersion(voucherId)).thenReturn(new VoucherVersion("abc-2", VERSION.getLastModified()));
+        when(voucherService.findVoucherById(voucherId)).thenReturn(Optional.of(voucher));
+        MockMvc mockMvc = createMockMvc(Runnable::run);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers/{voucherId}", voucherId).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-2\""));
+    }
+
+    @Test
+    @DisplayName("voucher 목록은 VoucherBatch를 VoucherResponse와 같은 형식의 JSON 배열로 응답한다.")
+    void findVouchersTest() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2022, 5, 1, 10, 0);
+        VoucherBatch voucherBatch = VoucherBatch.of(List.of(FIXED_DISCOUNT.constructor(1L, 1000, createdAt)));
+        when(voucherService.getVoucherListVersion()).thenReturn(VERSION);
+        when(voucherService.findVoucherBatch(any())).thenReturn(voucherBatch);
+        MockMvc mockMvc = createMockMvc(Runnable::run);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].voucherId").value(1))
+                .andExpect(jsonPath("$[0].amount").value(1000))
+                .andExpect(jsonPath("$[0].voucherType").value("FIXED_DISCOUNT"))
+                .andExpect(jsonPath("$[0].createdAt").value("2022-05-01T10:00:00"));
+    }
+
+    @Test
+    @DisplayName("XML을 요청하면 voucher 목록을 XStream으로 VoucherResponse 목록 XML로 응답한다.")
+    void findVouchersXmlTest() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2022, 5, 1, 10, 0);
+        when(voucherService.getVoucherListVersion()).thenReturn(VERSION);
+        when(voucherService.findVouchers(any())).thenReturn(List.of(FIXED_DISCOUNT.constructor(1L, 1000, createdAt)));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new VoucherApiController(voucherService, new ObjectMapper(), Runnable::run, EXPORT_EXECUTOR, ASYNC_PROPERTIES))
+                .setMessageConverters(new MarshallingHttpMessageConverter(new XStreamMarshaller()))
+                .build();
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers").accept(MediaType.APPLICATION_XML))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-1-xml\""))
+                .andExpect(xpath("/list/*[1]/voucherId").string("1"))
+                .andExpect(xpath("/list/*[1]/voucherType").string("FIXED_DISCOUNT"));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 목록의 Last-Modified 이후이면 조회하지 않고 304 Not Modified로 응답한다.")
+    void findVouchersNotModifiedTest() throws Exception {
+        // given
+        when(voucherService.getVoucherListVersion()).thenReturn(VERSION);
+        MockMvc mockMvc = createMockMvc(command -> {
+            throw new AssertionError("executor must not be used");
+        });
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers").accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 01 May 2022 10:00:00 GMT"))
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+        verify(voucherService, never()).findVoucherBatch(any());
+    }
+
+    @Test
+    @DisplayName("executor의 대기열이 가득 차면 429 Too Many Requests로 응답한다.")
+    void executorRejectedTest() throws Exception {
+        // given
+        Executor fullExecutor = command -> {
+            throw new TaskRejectedException("queue is full");
+        };
+        when(voucherService.getVoucherVersion(1L)).thenReturn(VERSION);
+        MockMvc mockMvc = createMockMvc(fullExecutor);
+
+        // when
+        mockMvc.perform(get("/api/v1/vouchers/{voucherId}", 1L))
+                // then
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        verify(voucherService, never()).findVoucherById(1L);
+    }
+
+    @Test
+    @DisplayName("voucher의 amount를 변경한다.")
+    void updateVoucherAmountTest() throws Exception {
+        // given
+        Long voucherId = 1L;
+        MockMvc mockMvc = createMockMvc(Runnable::run);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/vouchers/{voucherId}", voucherId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":2000}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+        verify(voucherService).updateVoucherAmount(voucherId, 2000);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 voucher의 amount를 변경하면 400 Bad Request로 응답한다.")
+    void updateVoucherAmountNotExistsVoucherTest() throws Exception {
+        // given
+        Long wrongVoucherId = -1L;
+        doThrow(new IllegalArgumentException("등록되지 않은 Voucher입니다.")).when(voucherService).updateVoucherAmount(wrongVoucherId, 2000);
+        MockMvc mockMvc = createMockMvc(Runnable::run);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(patch("/api/v1/vouchers/{voucherId}", wrongVoucherId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":2000}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("export는 API executor가 아닌 export executor에서 실행되어 응답을 쓴다.")
+    void exportVouchersTest() throws Exception {
+        // given
+        VoucherBatch voucherBatch = VoucherBatch.of(List.of(FIXED_DISCOUNT.constructor(1L, 1000, LocalDateTime.now())));
+        doAnswer(invocation -> {
+            Consumer<VoucherBatch> batchConsumer = invocation.getArgument(0);
+            batchConsumer.accept(voucherBatch);
+            return null;
+        }).when(voucherService).exportVoucherBatches(any());
+        AtomicInteger exportTaskCount = new AtomicInteger();
+        AsyncTaskExecutor exportExecutor = new ConcurrentTaskExecutor(command -> {
+            exportTaskCount.incrementAndGet();
+            command.run();
+        });
+        MockMvc mockMvc = createMockMvc(command -> {
+            throw new AssertionError("api executor must not be used");
+        }, exportExecutor);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/vouchers/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string(startsWith("voucherId,voucherType,amount,createdAt\n1,FIXED_DISCOUNT,1000,")));
+        assertThat(exportTaskCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 format으로 export하면 400 Bad Request로 응답한다.")
+    void exportVouchersUnsupportedFormatTest() throws Exception {
+        // given
+        MockMvc mockMvc = createMockMvc(Runnable::run);
+
+        // when
+        mockMvc.perform(get("/api/v1/vouchers/export").param("format", "xml"))
+                // then
+                .andExpect(status().isBadRequest());
+
+        verify(voucherService, never()).exportVoucherBatches(any());
+    }
+
+    private MockMvc createMockMvc(Executor executor) {
+        return createMockMvc(executor, EXPORT_EXECUTOR);
+    }
+
+    private MockMvc createMockMvc(Executor executor, AsyncTaskExecutor exportExecutor) {
+        return MockMvcBuilders.standaloneSetup(new VoucherApiController(voucherService, new ObjectMapper(), executor, exportExecutor, ASYNC_PROPERTIES)).build();
+    }
+}
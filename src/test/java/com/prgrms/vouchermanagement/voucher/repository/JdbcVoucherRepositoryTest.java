@@ -1,6 +1,7 @@
 package com.prgrms.vouchermanagement.voucher.repository;
 
 import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,9 +17,12 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import javax.sql.DataSource;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -80,6 +84,105 @@ class JdbcVoucherRepositoryTest {
         assertThat(findFixedVoucher).usingRecursiveComparison().ignoringFields("voucherId").isEqualTo(fixedVoucher);
     }
 
+    @Test
+    @DisplayName("여러 Voucher를 batch insert로 저장하고 저장 순서대로 voucherId를 반환한다.")
+    void saveAllTest() {
+        // given
+        Voucher percentVoucher =  VoucherType.PERCENT_DISCOUNT.constructor(50, LocalDateTime.now());
+        Voucher fixedVoucher = VoucherType.FIXED_DISCOUNT.constructor(50000, LocalDateTime.now());
+
+        // when
+        List<Long> voucherIds = voucherRepository.saveAll(List.of(percentVoucher, fixedVoucher));
+
+        // then
+        assertThat(voucherIds).hasSize(2);
+
+        Voucher findPercentVoucher = voucherRepository.findById(voucherIds.get(0)).get();
+        assertThat(findPercentVoucher).usingRecursiveComparison().ignoringFields("voucherId").isEqualTo(percentVoucher);
+
+        Voucher findFixedVoucher = voucherRepository.findById(voucherIds.get(1)).get();
+        assertThat(findFixedVoucher).usingRecursiveComparison().ignoringFields("voucherId").isEqualTo(fixedVoucher);
+    }
+
+    @Test
+    @DisplayName("저장된 모든 Voucher를 하나씩 전달한다.")
+    void forEachVoucherTest() {
+        // given
+        Voucher percentVoucher =  VoucherType.PERCENT_DISCOUNT.constructor(50, LocalDateTime.now());
+        Voucher fixedVoucher = VoucherType.FIXED_DISCOUNT.constructor(50000, LocalDateTime.now());
+        voucherRepository.save(percentVoucher);
+        voucherRepository.save(fixedVoucher);
+
+        // when
+        List<Voucher> vouchers = new ArrayList<>();
+        voucherRepository.forEachVoucher(vouchers::add);
+
+        // then
+        assertThat(vouchers).usingRecursiveFieldByFieldElementComparatorIgnoringFields("voucherId").containsExactlyInAnyOrder(percentVoucher, fixedVoucher);
+    }
+
+    @Test
+    @DisplayName("저장된 모든 Voucher를 Voucher 객체 없이 batchSize 개씩 VoucherBatch에 담아 전달한다.")
+    void forEachBatchTest() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        List<Voucher> vouchers = List.of(
+                VoucherType.PERCENT_DISCOUNT.constructor(50, createdAt),
+                VoucherType.FIXED_DISCOUNT.constructor(50000, createdAt),
+                VoucherType.FIXED_DISCOUNT.constructor(1000, createdAt));
+        voucherRepository.saveAll(vouchers);
+
+        // when
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Voucher> batchVouchers = new ArrayList<>();
+        voucherRepository.forEachBatch(2, voucherBatch -> {
+            batchSizes.add(voucherBatch.size());
+            for (int i = 0; i < voucherBatch.size(); i++) {
+                batchVouchers.add(voucherBatch.toVoucher(i));
+            }
+        });
+        VoucherBatch allVouchers = voucherRepository.findAllBatch();
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(batchVouchers).usingRecursiveFieldByFieldElementComparatorIgnoringFields("voucherId").containsExactlyInAnyOrderElementsOf(vouchers);
+        assertThat(allVouchers.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("cursor 이후의 Voucher를 voucherId 순으로 limit 개 조회한다.")
+    void findPageTest() {
+        // given
+        Long voucherId1 = voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, LocalDateTime.now()));
+        Long voucherId2 = voucherRepository.save(VoucherType.PERCENT_DISCOUNT.constructor(20, LocalDateTime.now()));
+        Long voucherId3 = voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(3000, LocalDateTime.now()));
+
+        // when
+        List<Voucher> firstPage = voucherRepository.findPage(null, 2);
+        List<Voucher> secondPage = voucherRepository.findPage(voucherId2, 2);
+
+        // then
+        assertThat(firstPage).extracting(Voucher::getVoucherId).containsExactly(voucherId1, voucherId2);
+        assertThat(secondPage).extracting(Voucher::getVoucherId).containsExactly(voucherId3);
+    }
+
+    @Test
+    @DisplayName("type과 기간 조건을 함께 만족하는 Voucher만 조회한다.")
+    void findByConditionTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long voucherId = voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, now));
+        voucherRepository.save(VoucherType.PERCENT_DISCOUNT.constructor(20, now));
+        voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(3000, now.minusDays(10)));
+
+        // when
+        VoucherSearchCondition condition = VoucherSearchCondition.of(null, VoucherType.FIXED_DISCOUNT, now.minusDays(1), now.plusDays(1), null);
+        List<Voucher> vouchers = voucherRepository.findByCondition(condition);
+
+        // then
+        assertThat(vouchers).extracting(Voucher::getVoucherId).containsExactly(voucherId);
+    }
+
     @Test
     @DisplayName("voucherId로 Voucher를 조회한다.")
     void findByIdTest() {
@@ -154,6 +257,37 @@ class JdbcVoucherRepositoryTest {
         assertThat(voucherRepository.findById(voucherId)).isEmpty();
     }
 
+    @Test
+    @DisplayName("삭제된 행이 있으면 true를, 없으면 false를 반환한다.")
+    void removeResultTest() {
+        // given
+        Long voucherId = voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(50, LocalDateTime.now()));
+
+        // when
+        boolean removed = voucherRepository.remove(voucherId);
+        boolean removedAgain = voucherRepository.remove(voucherId);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+    }
+
+    @Test
+    @DisplayName("voucherId로 저장 여부를 확인하고, 여러 voucherId 중 저장된 voucherId만 조회한다.")
+    void existsTest() {
+        // given
+        Long voucherId1 = voucherRepository.save(VoucherType.FIXED_DISCOUNT.constructor(50, LocalDateTime.now()));
+        Long voucherId2 = voucherRepository.save(VoucherType.PERCENT_DISCOUNT.constructor(10, LocalDateTime.now()));
+
+        // when
+        Set<Long> existingIds = voucherRepository.existingIds(List.of(voucherId1, voucherId2, -1L));
+
+        // then
+        assertThat(voucherRepository.existsById(voucherId1)).isTrue();
+        assertThat(voucherRepository.existsById(-1L)).isFalse();
+        assertThat(existingIds).containsExactlyInAnyOrder(voucherId1, voucherId2);
+    }
+
     @Test
     @DisplayName("전체 Voucher를 조회한다.")
     void findAllTest() {
@@ -0,0 +1,129 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.util.FilePathProperties;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedVoucherRepositoryTest {
+
+    private static final String VOUCHERS_MAPPED_FILE = "vouchers.mmap";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2022, 5, 1, 10, 0, 0, 123_000_000);
+
+    @TempDir
+    Path tempDir;
+
+    FilePathProperties filePathProperties;
+    MappedVoucherRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        filePathProperties = new FilePathProperties(null, null, tempDir.toString(), null, null, null, VOUCHERS_MAPPED_FILE);
+        repository = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    @Test
+    @DisplayName("Voucher를 메모리 매핑 파일에 저장한다.")
+    void saveTest() {
+        // given
+        Voucher fixedVoucher = VoucherType.FIXED_DISCOUNT.constructor(5000, CREATED_AT);
+        Voucher percentVoucher = VoucherType.PERCENT_DISCOUNT.constructor(50, CREATED_AT);
+
+        // when
+        Long fixedVoucherId = repository.save(fixedVoucher);
+        Long percentVoucherId = repository.save(percentVoucher);
+
+        // then
+        assertThat(repository.findAll()).extracting(Voucher::getVoucherId).containsExactly(fixedVoucherId, percentVoucherId);
+        assertThat(repository.findAll()).usingRecursiveFieldByFieldElementComparatorIgnoringFields("voucherId").containsExactly(fixedVoucher, percentVoucher);
+    }
+
+    @Test
+    @DisplayName("Vouhcer를 voucherId로 조회한다.")
+    void findByIdTest() {
+        // given
+        Voucher voucher = VoucherType.FIXED_DISCOUNT.constructor(100000, CREATED_AT);
+        Long voucherId = repository.save(voucher);
+
+        // when
+        Optional<Voucher> findVoucher = repository.findById(voucherId);
+
+        // then
+        assertThat(findVoucher).isNotEmpty();
+        assertThat(findVoucher.get()).usingRecursiveComparison().ignoringFields("voucherId").isEqualTo(voucher);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 Id로 Voucher를 조회하면 Optional.empty()가 반환된다.")
+    void findByNotExistsIdTest() {
+        // given
+        repository.save(VoucherType.FIXED_DISCOUNT.constructor(100000, CREATED_AT));
+        Long wrongVoucherId = -1L;
+
+        // when
+        Optional<Voucher> findVoucher = repository.findById(wrongVoucherId);
+
+        // then
+        assertThat(findVoucher).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Voucher를 삭제한다.")
+    void removeTest() {
+        // given
+        Long voucherId = repository.save(VoucherType.FIXED_DISCOUNT.constructor(100000, CREATED_AT));
+
+        // when
+        boolean removed = repository.remove(voucherId);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(repository.findById(voucherId)).isEmpty();
+        assertThat(repository.remove(voucherId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 열면 저장, 변경, 삭제된 Voucher가 파일에서 그대로 읽히고, 이후 voucherId는 이어서 발급된다.")
+    void reopenTest() {
+        // given
+        Long voucherId1 = repository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, CREATED_AT));
+        Long voucherId2 = repository.save(VoucherType.PERCENT_DISCOUNT.constructor(20, CREATED_AT));
+        Long voucherId3 = repository.save(VoucherType.FIXED_DISCOUNT.constructor(3000, CREATED_AT));
+        repository.update(VoucherType.FIXED_DISCOUNT.constructor(voucherId1, 7000, CREATED_AT));
+        repository.remove(voucherId2);
+
+        // when
+        repository.destroy();
+        repository = open();
+
+        // then
+        List<Voucher> vouchers = repository.findAll();
+        assertThat(vouchers).extracting(Voucher::getVoucherId).containsExactly(voucherId1, voucherId3);
+        assertThat(repository.findById(voucherId1)).get().extracting(Voucher::getAmount).isEqualTo(7000L);
+        assertThat(repository.findById(voucherId2)).isEmpty();
+        assertThat(repository.findById(voucherId3)).get().extracting(Voucher::getCreatedAt).isEqualTo(CREATED_AT);
+        assertThat(repository.save(VoucherType.FIXED_DISCOUNT.constructor(4000, CREATED_AT))).isGreaterThan(voucherId3);
+    }
+
+    private MappedVoucherRepository open() {
+        MappedVoucherRepository mappedVoucherRepository = new MappedVoucherRepository(filePathProperties);
+        mappedVoucherRepository.init();
+        return mappedVoucherRepository;
+    }
+}
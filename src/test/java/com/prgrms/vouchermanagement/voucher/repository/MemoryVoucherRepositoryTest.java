@@ -8,6 +8,11 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,6 +35,25 @@ class MemoryVoucherRepositoryTest {
         assertThat(repository.findAll()).contains(fixedVoucher, percentVoucher);
     }
 
+    @Test
+    @DisplayName("cursor 이후의 Voucher를 voucherId 순으로 조회하고 삭제된 Voucher는 제외한다.")
+    void findPageTest() {
+        // given
+        Long voucherId1 = repository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, LocalDateTime.now()));
+        Long voucherId2 = repository.save(VoucherType.PERCENT_DISCOUNT.constructor(20, LocalDateTime.now()));
+        Long voucherId3 = repository.save(VoucherType.FIXED_DISCOUNT.constructor(3000, LocalDateTime.now()));
+        Long voucherId4 = repository.save(VoucherType.FIXED_DISCOUNT.constructor(4000, LocalDateTime.now()));
+        repository.remove(voucherId3);
+
+        // when
+        List<Voucher> firstPage = repository.findPage(null, 2);
+        List<Voucher> secondPage = repository.findPage(voucherId2, 2);
+
+        // then
+        assertThat(firstPage).extracting(Voucher::getVoucherId).containsExactly(voucherId1, voucherId2);
+        assertThat(secondPage).extracting(Voucher::getVoucherId).containsExactly(voucherId4);
+    }
+
     @Test
     @DisplayName("Voucher를 update한다.")
     void updateTest() {
@@ -139,4 +163,92 @@ class MemoryVoucherRepositoryTest {
         assertThat(allVouchers).isNotNull();
         assertThat(allVouchers).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("VoucherType으로 Voucher를 조회한다.")
+    void findByTypeTest() {
+        // given
+        Voucher fixedVoucher1 = VoucherType.FIXED_DISCOUNT.constructor(1000, LocalDateTime.now());
+        Voucher fixedVoucher2 = VoucherType.FIXED_DISCOUNT.constructor(2000, LocalDateTime.now());
+        Voucher percentVoucher = VoucherType.PERCENT_DISCOUNT.constructor(10, LocalDateTime.now());
+
+        repository.save(fixedVoucher1);
+        repository.save(fixedVoucher2);
+        repository.save(percentVoucher);
+
+        // when
+        List<Voucher> fixedVouchers = repository.findByType(VoucherType.FIXED_DISCOUNT);
+
+        // then
+        assertThat(fixedVouchers.size()).isEqualTo(2);
+        assertThat(fixedVouchers).contains(fixedVoucher1, fixedVoucher2);
+    }
+
+    @Test
+    @DisplayName("생성 기간으로 Voucher를 조회한다.")
+    void findByPeriodTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Voucher oldVoucher = VoucherType.FIXED_DISCOUNT.constructor(1000, now.minusDays(10));
+        Voucher newVoucher1 = VoucherType.FIXED_DISCOUNT.constructor(2000, now.minusDays(1));
+        Voucher newVoucher2 = VoucherType.PERCENT_DISCOUNT.constructor(10, now);
+
+        repository.save(oldVoucher);
+        repository.save(newVoucher1);
+        repository.save(newVoucher2);
+
+        // when
+        List<Voucher> vouchers = repository.findByPeriod(now.minusDays(2), now);
+
+        // then
+        assertThat(vouchers.size()).isEqualTo(2);
+        assertThat(vouchers).contains(newVoucher1, newVoucher2);
+    }
+
+    @Test
+    @DisplayName("Voucher를 update, 삭제하면 type, 기간 조회 결과에도 반영된다.")
+    void indexUpdateAndRemoveTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Voucher voucher1 = VoucherType.FIXED_DISCOUNT.constructor(1000, now.minusDays(10));
+        Voucher voucher2 = VoucherType.FIXED_DISCOUNT.constructor(2000, now.minusDays(10));
+        Long voucherId1 = repository.save(voucher1);
+        Long voucherId2 = repository.save(voucher2);
+
+        // when
+        Voucher updateVoucher = VoucherType.PERCENT_DISCOUNT.constructor(voucherId1, 10, now);
+        repository.update(updateVoucher);
+        repository.remove(voucherId2);
+
+        // then
+        assertThat(repository.findByType(VoucherType.FIXED_DISCOUNT)).isEmpty();
+        assertThat(repository.findByType(VoucherType.PERCENT_DISCOUNT)).containsExactly(updateVoucher);
+        assertThat(repository.findByPeriod(now.minusDays(11), now.minusDays(9))).isEmpty();
+        assertThat(repository.findByPeriod(now.minusDays(1), now)).containsExactly(updateVoucher);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 저장해도 voucherId가 중복되지 않는다.")
+    void concurrentSaveTest() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int savePerThread = 1000;
+        Set<Long> voucherIds = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < savePerThread; j++) {
+                    voucherIds.add(repository.save(VoucherType.FIXED_DISCOUNT.constructor(1000, LocalDateTime.now())));
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(voucherIds.size()).isEqualTo(threadCount * savePerThread);
+        assertThat(repository.findAll().size()).isEqualTo(threadCount * savePerThread);
+    }
+}
@@ -0,0 +1,102 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoucherOperationLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("로그에 기록한 save, update, remove 연산을 replay 하면 같은 상태가 복원된다.")
+    void replayTest() throws IOException {
+        // given
+        Path logPath = tempDir.resolve("vouchers.log");
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Voucher fixedVoucher = VoucherType.FIXED_DISCOUNT.constructor(5000, createdAt);
+        Voucher percentVoucher = VoucherType.PERCENT_DISCOUNT.constructor(50, createdAt);
+        Voucher updateVoucher = VoucherType.FIXED_DISCOUNT.constructor(1L, 7000, createdAt);
+
+        try (VoucherOperationLog operationLog = new VoucherOperationLog(logPath)) {
+            operationLog.appendSave(1L, fixedVoucher);
+            operationLog.appendSave(2L, percentVoucher);
+            operationLog.appendUpdate(1L, updateVoucher);
+            operationLog.appendRemove(2L);
+        }
+
+        // when
+        Map<Long, Voucher> store = new HashMap<>();
+        long sequence;
+        try (VoucherOperationLog operationLog = new VoucherOperationLog(logPath)) {
+            sequence = operationLog.replay(store);
+        }
+
+        // then
+        assertThat(sequence).isEqualTo(2L);
+        assertThat(store).containsOnlyKeys(1L);
+        assertThat(store.get(1L).getAmount()).isEqualTo(7000);
+        assertThat(store.get(1L).getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("비정상 종료로 일부만 기록된 마지막 레코드는 replay 에서 무시된다.")
+    void replayTornRecordTest() throws IOException {
+        // given
+        Path logPath = tempDir.resolve("vouchers.log");
+        try (VoucherOperationLog operationLog = new VoucherOperationLog(logPath)) {
+            operationLog.appendSave(1L, VoucherType.FIXED_DISCOUNT.constructor(5000, LocalDateTime.now()));
+            operationLog.appendSave(2L, VoucherType.FIXED_DISCOUNT.constructor(6000, LocalDateTime.now()));
+        }
+
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+            channel.truncate(VoucherOperationLog.RECORD_SIZE + 10);
+        }
+
+        // when
+        Map<Long, Voucher> store = new HashMap<>();
+        try (VoucherOperationLog operationLog = new VoucherOperationLog(logPath)) {
+            operationLog.replay(store);
+        }
+
+        // then
+        assertThat(store).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("로그를 reset 해도 sequence 는 유지된다.")
+    void resetTest() throws IOException {
+        // given
+        Path logPath = tempDir.resolve("vouchers.log");
+        try (VoucherOperationLog operationLog = new VoucherOperationLog(logPath)) {
+            operationLog.appendSave(1L, VoucherType.FIXED_DISCOUNT.constructor(5000, LocalDateTime.now()));
+            operationLog.appendSave(2L, VoucherType.FIXED_DISCOUNT.constructor(6000, LocalDateTime.now()));
+            operationLog.appendRemove(2L);
+
+            // when
+            operationLog.reset(2L);
+        }
+
+        // then
+        Map<Long, Voucher> store = new HashMap<>();
+        try (VoucherOperationLog operationLog = new VoucherOperationLog(logPath)) {
+            assertThat(operationLog.replay(store)).isEqualTo(2L);
+            assertThat(operationLog.getRecordCount()).isEqualTo(1L);
+        }
+        assertThat(store).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherBatch;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoucherSlotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("slot 에 저장한 voucher 는 파일을 다시 열어도 그대로 조회된다.")
+    void appendAndReopenTest() throws IOException {
+        // given
+        Path slotPath = tempDir.resolve("vouchers.mmap");
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        long fixedVoucherId;
+        long percentVoucherId;
+        try (VoucherSlotFile slotFile = new VoucherSlotFile(slotPath)) {
+            fixedVoucherId = slotFile.append(VoucherType.FIXED_DISCOUNT.constructor(5000, createdAt));
+            percentVoucherId = slotFile.append(VoucherType.PERCENT_DISCOUNT.constructor(50, createdAt));
+        }
+
+        // when
+        try (VoucherSlotFile slotFile = new VoucherSlotFile(slotPath)) {
+            Voucher findVoucher = slotFile.read(percentVoucherId);
+            long nextVoucherId = slotFile.append(VoucherType.FIXED_DISCOUNT.constructor(1000, createdAt));
+
+            // then
+            assertThat(fixedVoucherId).isEqualTo(1L);
+            assertThat(nextVoucherId).isEqualTo(3L);
+            assertThat(findVoucher.getVoucherId()).isEqualTo(percentVoucherId);
+            assertThat(findVoucher.getAmount()).isEqualTo(50);
+            assertThat(findVoucher.getCreatedAt()).isEqualTo(createdAt);
+            assertThat(VoucherType.getVoucherType(findVoucher)).isEqualTo(VoucherType.PERCENT_DISCOUNT);
+        }
+    }
+
+    @Test
+    @DisplayName("update, remove 한 slot 이 조회와 scan 결과에 반영된다.")
+    void updateAndRemoveTest() throws IOException {
+        // given
+        try (VoucherSlotFile slotFile = new VoucherSlotFile(tempDir.resolve("vouchers.mmap"))) {
+            long fixedVoucherId = slotFile.append(VoucherType.FIXED_DISCOUNT.constructor(5000, LocalDateTime.now()));
+            long percentVoucherId = slotFile.append(VoucherType.PERCENT_DISCOUNT.constructor(50, LocalDateTime.now()));
+
+            // when
+            boolean updated = slotFile.update(fixedVoucherId, VoucherType.FIXED_DISCOUNT.constructor(fixedVoucherId, 7000, LocalDateTime.now()));
+            boolean removed = slotFile.remove(percentVoucherId);
+            boolean removedAgain = slotFile.remove(percentVoucherId);
+
+            // then
+            List<Voucher> vouchers = slotFile.scan(VoucherSlotFile.SlotFilter.ALL);
+            assertThat(updated).isTrue();
+            assertThat(removed).isTrue();
+            assertThat(removedAgain).isFalse();
+            assertThat(slotFile.read(percentVoucherId)).isNull();
+            assertThat(vouchers).hasSize(1);
+            assertThat(vouchers.get(0).getAmount()).isEqualTo(7000);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 slot 을 batchSize 개씩 VoucherBatch 에 담아 전달한다.")
+    void forEachBatchTest() throws IOException {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        try (VoucherSlotFile slotFile = new VoucherSlotFile(tempDir.resolve("vouchers.mmap"))) {
+            for (int amount = 1; amount <= 5; amount++) {
+                slotFile.append(VoucherType.FIXED_DISCOUNT.constructor(amount * 1000L, createdAt));
+            }
+            slotFile.remove(2L);
+
+            // when
+            List<Integer> batchSizes = new ArrayList<>();
+            List<Long> amounts = new ArrayList<>();
+            slotFile.forEachBatch(VoucherSlotFile.SlotFilter.ALL, 3, voucherBatch -> {
+                batchSizes.add(voucherBatch.size());
+                for (int i = 0; i < voucherBatch.size(); i++) {
+                    amounts.add(voucherBatch.getAmount(i));
+                }
+            });
+            VoucherBatch voucherBatch = slotFile.scanBatch(VoucherSlotFile.SlotFilter.ALL);
+
+            // then
+            assertThat(batchSizes).containsExactly(3, 1);
+            assertThat(amounts).containsExactly(1000L, 3000L, 4000L, 5000L);
+            assertThat(voucherBatch.size()).isEqualTo(4);
+            assertThat(voucherBatch.getVoucherId(1)).isEqualTo(3L);
+            assertThat(voucherBatch.getVoucherType(1)).isEqualTo(VoucherType.FIXED_DISCOUNT);
+            assertThat(voucherBatch.toVoucher(1).getCreatedAt()).isEqualTo(createdAt);
+        }
+    }
+}
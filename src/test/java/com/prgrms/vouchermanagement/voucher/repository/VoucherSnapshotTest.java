@@ -0,0 +1,77 @@
+package com.prgrms.vouchermanagement.voucher.repository;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoucherSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("snapshot 에 저장한 voucher 와 sequence 를 그대로 읽어온다.")
+    void writeAndReadTest() throws IOException {
+        // given
+        Path snapshotPath = tempDir.resolve("vouchers.snapshot");
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Map<Long, Voucher> store = new HashMap<>();
+        store.put(1L, VoucherType.FIXED_DISCOUNT.constructor(1L, 5000, createdAt));
+        store.put(3L, VoucherType.PERCENT_DISCOUNT.constructor(3L, 50, createdAt));
+
+        // when
+        VoucherSnapshot.write(snapshotPath, store, 5L);
+        Map<Long, Voucher> readStore = new HashMap<>();
+        long sequence = VoucherSnapshot.read(snapshotPath, readStore);
+
+        // then
+        assertThat(sequence).isEqualTo(5L);
+        assertThat(readStore).containsOnlyKeys(1L, 3L);
+        assertThat(VoucherType.getVoucherType(readStore.get(3L))).isEqualTo(VoucherType.PERCENT_DISCOUNT);
+        assertThat(readStore.get(3L).getAmount()).isEqualTo(50);
+        assertThat(readStore.get(1L).getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("Java 직렬화로 저장된 이전 파일은 snapshot 으로 한 번만 변환된다.")
+    void migrateLegacyFileTest() throws IOException {
+        // given
+        Path legacyPath = tempDir.resolve("vouchers.ser");
+        Path snapshotPath = tempDir.resolve("vouchers.snapshot");
+        Map<Long, Voucher> legacyStore = new HashMap<>();
+        legacyStore.put(1L, VoucherType.FIXED_DISCOUNT.constructor(1L, 5000, LocalDateTime.now()));
+        legacyStore.put(2L, VoucherType.PERCENT_DISCOUNT.constructor(2L, 30, LocalDateTime.now()));
+
+        try (OutputStream os = Files.newOutputStream(legacyPath);
+             ObjectOutputStream oos = new ObjectOutputStream(os)) {
+            oos.writeObject(legacyStore);
+        }
+
+        // when
+        long migratedCount = LegacyVoucherSnapshotMigrator.migrate(legacyPath, snapshotPath, 0L);
+        long secondCount = LegacyVoucherSnapshotMigrator.migrate(legacyPath, snapshotPath, 0L);
+
+        // then
+        Map<Long, Voucher> readStore = new HashMap<>();
+        assertThat(migratedCount).isEqualTo(2L);
+        assertThat(secondCount).isEqualTo(-1L);
+        assertThat(VoucherSnapshot.read(snapshotPath, readStore)).isEqualTo(2L);
+        assertThat(readStore).containsOnlyKeys(1L, 2L);
+        assertThat(Files.exists(Paths.get(legacyPath + ".migrated"))).isTrue();
+    }
+}
@@ -0,0 +1,127 @@
+package com.prgrms.vouchermanagement.voucher.service;
+
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoucherCacheTest {
+
+    AtomicLong now = new AtomicLong();
+    AtomicInteger loadCount = new AtomicInteger();
+    Function<Long, Optional<Voucher>> loader = voucherId -> {
+        loadCount.incrementAndGet();
+        return Optional.of(FIXED_DISCOUNT.constructor(voucherId, 1000, LocalDateTime.now()));
+    };
+
+    @Test
+    @DisplayName("같은 voucherId를 다시 조회하면 loader를 호출하지 않고 캐시된 Voucher를 반환한다.")
+    void hitTest() {
+        // given
+        VoucherCache voucherCache = new VoucherCache(10, Duration.ofMinutes(1), now::get);
+        voucherCache.get(1L, loader);
+
+        // when
+        Optional<Voucher> findVoucher = voucherCache.get(1L, loader);
+
+        // then
+        assertThat(findVoucher).isPresent();
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(voucherCache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(voucherCache.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 Voucher가 제거된다.")
+    void sizeEvictionTest() {
+        // given
+        VoucherCache voucherCache = new VoucherCache(2, Duration.ofMinutes(1), now::incrementAndGet);
+        voucherCache.get(1L, loader);
+        voucherCache.get(2L, loader);
+        voucherCache.get(1L, loader);
+
+        // when
+        voucherCache.get(3L, loader);
+        voucherCache.get(1L, loader);
+        voucherCache.get(2L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(voucherCache.getStats().getEvictionCount()).isEqualTo(2);
+        assertThat(voucherCache.getStats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 Voucher는 다시 조회한다.")
+    void ttlExpirationTest() {
+        // given
+        VoucherCache voucherCache = new VoucherCache(10, Duration.ofSeconds(1), now::get);
+        voucherCache.get(1L, loader);
+
+        // when
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        voucherCache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(voucherCache.getStats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate한 Voucher는 다시 조회하고, 조회 중에 invalidate되면 결과를 캐시하지 않는다.")
+    void invalidateTest() {
+        // given
+        VoucherCache voucherCache = new VoucherCache(10, Duration.ofMinutes(1), now::get);
+        voucherCache.get(1L, loader);
+
+        // when
+        voucherCache.invalidate(1L);
+        voucherCache.get(1L, voucherId -> {
+            voucherCache.invalidate(voucherId);
+            return loader.apply(voucherId);
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(voucherCache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 thread가 동시에 조회해도 hit, miss 수가 누락되지 않고 최대 개수를 넘지 않는다.")
+    void concurrentGetTest() throws InterruptedException {
+        // given
+        VoucherCache voucherCache = new VoucherCache(10, Duration.ofMinutes(1));
+        int threadCount = 8;
+        int getCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (long voucherId = 0; voucherId < getCount; voucherId++) {
+                    voucherCache.get(voucherId % 20, loader);
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        VoucherCacheStats stats = voucherCache.getStats();
+        assertThat(stats.getHitCount() + stats.getMissCount()).isEqualTo((long) threadCount * getCount);
+        assertThat(stats.getMissCount()).isEqualTo(loadCount.get());
+        assertThat(stats.getSize()).isLessThanOrEqualTo(10);
+    }
+}
@@ -1,5 +1,7 @@
 package com.prgrms.vouchermanagement.voucher.service;
 
+import com.prgrms.vouchermanagement.util.CursorPage;
+import com.prgrms.vouchermanagement.util.VoucherProperties;
 import com.prgrms.vouchermanagement.voucher.Voucher;
 import com.prgrms.vouchermanagement.voucher.VoucherType;
 import com.prgrms.vouchermanagement.voucher.repository.JdbcVoucherRepository;
@@ -8,23 +10,32 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.prgrms.vouchermanagement.voucher.VoucherType.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringJUnitConfig
+@RecordApplicationEvents
 class VoucherServiceTest {
 
     @Configuration
@@ -46,14 +57,19 @@ class VoucherServiceTest {
             return new NamedParameterJdbcTemplate(dataSource);
         }
 
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
         @Bean
         JdbcVoucherRepository voucherRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
             return new JdbcVoucherRepository(namedParameterJdbcTemplate);
         }
 
         @Bean
-        VoucherService voucherService(VoucherRepository voucherRepository) {
-            return new VoucherService(voucherRepository);
+        VoucherService voucherService(VoucherRepository voucherRepository, ApplicationEventPublisher eventPublisher) {
+            return new VoucherService(voucherRepository, new VoucherProperties(2, 100, Duration.ofMinutes(1)), eventPublisher);
         }
     }
 
@@ -66,6 +82,12 @@ class VoucherServiceTest {
     @Autowired
     NamedParameterJdbcTemplate jdbcTemplate;
 
+    @Autowired
+    ApplicationEvents applicationEvents;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @AfterEach
     void afterEach() {
         jdbcTemplate.update("DELETE FROM voucher", Collections.emptyMap());
@@ -87,6 +109,42 @@ class VoucherServiceTest {
         assertThat(findVoucher.getAmount()).isEqualTo(amount);
     }
 
+    @Test
+    @DisplayName("여러 Voucher를 batchSize 단위로 나누어 저장한다.")
+    void addVouchersTest() {
+        // given
+        Voucher voucher1 = FIXED_DISCOUNT.constructor(5000, LocalDateTime.now());
+        Voucher voucher2 = PERCENT_DISCOUNT.constructor(15, LocalDateTime.now());
+        Voucher voucher3 = FIXED_DISCOUNT.constructor(120000, LocalDateTime.now());
+
+        // when
+        List<Long> voucherIds = voucherService.addVouchers(List.of(voucher1, voucher2, voucher3));
+
+        // then
+        assertThat(voucherIds).hasSize(3).doesNotHaveDuplicates();
+        assertThat(voucherRepository.findById(voucherIds.get(1)).get().getAmount()).isEqualTo(15);
+        assertThat(voucherRepository.findById(voucherIds.get(2)).get().getAmount()).isEqualTo(120000);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 voucherId를 nextCursor로 반환한다.")
+    void findVoucherPageTest() {
+        // given
+        Long voucherId1 = voucherService.addVoucher(FIXED_DISCOUNT, 1000);
+        Long voucherId2 = voucherService.addVoucher(PERCENT_DISCOUNT, 20);
+        Long voucherId3 = voucherService.addVoucher(FIXED_DISCOUNT, 3000);
+
+        // when
+        CursorPage<Voucher> firstPage = voucherService.findVoucherPage(null, 2);
+        CursorPage<Voucher> lastPage = voucherService.findVoucherPage(firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getContent()).extracting(Voucher::getVoucherId).containsExactly(voucherId1, voucherId2);
+        assertThat(firstPage.getNextCursor()).isEqualTo(voucherId2);
+        assertThat(lastPage.getContent()).extracting(Voucher::getVoucherId).containsExactly(voucherId3);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("모든 Voucher를 조회한다.")
     void findAllVouchesTest() {
@@ -131,4 +189,54 @@ class VoucherServiceTest {
         // then
         assertThat(registeredVoucher).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("voucher의 amount를 변경하면 변경된 값이 조회되고 voucher와 목록의 버전이 바뀐다.")
+    void updateVoucherAmountTest() {
+        // given
+        Long voucherId = voucherService.addVoucher(FIXED_DISCOUNT, 1000);
+        voucherService.findVoucherById(voucherId);
+        VoucherVersion before = voucherService.getVoucherVersion(voucherId);
+        VoucherVersion listBefore = voucherService.getVoucherListVersion();
+
+        // when
+        voucherService.updateVoucherAmount(voucherId, 2000);
+
+        // then
+        assertThat(voucherService.findVoucherById(voucherId)).get().extracting(Voucher::getAmount).isEqualTo(2000L);
+        assertThat(voucherService.getVoucherVersion(voucherId).getTag()).isNotEqualTo(before.getTag());
+        assertThat(voucherService.getVoucherListVersion().getTag()).isNotEqualTo(listBefore.getTag());
+        assertThat(applicationEvents.stream(VoucherChangedEvent.class)).extracting(VoucherChangedEvent::getVoucherId).containsExactly(voucherId);
+    }
+
+    @Test
+    @DisplayName("voucher를 삭제하면 VoucherChangedEvent를 발행한다.")
+    void removeVoucherEventTest() {
+        // given
+        Long voucherId = voucherService.addVoucher(FIXED_DISCOUNT, 1000);
+
+        // when
+        voucherService.removeVoucher(voucherId);
+
+        // then
+        assertThat(applicationEvents.stream(VoucherChangedEvent.class)).extracting(VoucherChangedEvent::getVoucherId).containsExactly(voucherId);
+    }
+
+    @Test
+    @DisplayName("amount 변경이 커밋되기 전에 다른 요청이 이전 값을 캐시에 채워도 커밋 후에는 변경된 값이 조회된다.")
+    void updateVoucherAmountBeforeCommitTest() {
+        // given
+        Long voucherId = voucherService.addVoucher(FIXED_DISCOUNT, 1000);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Voucher loadedBeforeCommit = transactionTemplate.execute(status -> {
+            voucherService.updateVoucherAmount(voucherId, 2000);
+            return CompletableFuture.supplyAsync(() -> voucherService.findVoucherById(voucherId).get()).join();
+        });
+
+        // then
+        assertThat(loadedBeforeCommit.getAmount()).isEqualTo(1000L);
+        assertThat(voucherService.findVoucherById(voucherId)).get().extracting(Voucher::getAmount).isEqualTo(2000L);
+    }
+}
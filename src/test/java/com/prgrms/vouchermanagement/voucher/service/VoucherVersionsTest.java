@@ -0,0 +1,70 @@
+package com.prgrms.vouchermanagement.voucher.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoucherVersionsTest {
+
+    AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("voucher가 변경되면 해당 voucher와 목록의 버전만 바뀌고, 변경 시각이 Last-Modified가 된다.")
+    void changedTest() {
+        // given
+        VoucherVersions voucherVersions = new VoucherVersions(10, Duration.ofMinutes(1), now::get);
+        VoucherVersion before = voucherVersions.get(1L);
+        VoucherVersion otherBefore = voucherVersions.get(2L);
+        VoucherVersion listBefore = voucherVersions.getList();
+
+        // when
+        now.addAndGet(1000);
+        voucherVersions.changed(1L);
+
+        // then
+        assertThat(voucherVersions.get(1L).getTag()).isNotEqualTo(before.getTag());
+        assertThat(voucherVersions.get(1L).getLastModified()).isEqualTo(now.get());
+        assertThat(voucherVersions.get(2L).getTag()).isEqualTo(otherBefore.getTag());
+        assertThat(voucherVersions.getList().getTag()).isNotEqualTo(listBefore.getTag());
+    }
+
+    @Test
+    @DisplayName("목록만 변경되면 voucher의 버전은 그대로이다.")
+    void listChangedTest() {
+        // given
+        VoucherVersions voucherVersions = new VoucherVersions(10, Duration.ofMinutes(1), now::get);
+        VoucherVersion before = voucherVersions.get(1L);
+        VoucherVersion listBefore = voucherVersions.getList();
+
+        // when
+        voucherVersions.listChanged();
+
+        // then
+        assertThat(voucherVersions.get(1L).getTag()).isEqualTo(before.getTag());
+        assertThat(voucherVersions.getList().getTag()).isNotEqualTo(listBefore.getTag());
+    }
+
+    @Test
+    @DisplayName("ttl이 지나거나 변경된 voucher가 최대 개수를 넘으면 새 세대가 시작되어 이전 버전과 겹치지 않는다.")
+    void newGenerationTest() {
+        // given
+        VoucherVersions voucherVersions = new VoucherVersions(1, Duration.ofMinutes(1), now::get);
+        VoucherVersion before = voucherVersions.get(3L);
+        voucherVersions.changed(1L);
+
+        // when
+        voucherVersions.changed(2L);
+        VoucherVersion overflowed = voucherVersions.get(3L);
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        VoucherVersion expired = voucherVersions.get(3L);
+
+        // then
+        assertThat(overflowed.getTag()).isNotEqualTo(before.getTag());
+        assertThat(expired.getTag()).isNotEqualTo(overflowed.getTag());
+        assertThat(expired.getLastModified()).isEqualTo(now.get());
+    }
+}
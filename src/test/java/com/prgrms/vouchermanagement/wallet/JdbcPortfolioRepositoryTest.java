@@ -0,0 +1,150 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.prgrms.vouchermanagement.customer.Customer;
+import com.prgrms.vouchermanagement.customer.CustomerNamedJdbcRepository;
+import com.prgrms.vouchermanagement.voucher.Voucher;
+import com.prgrms.vouchermanagement.voucher.repository.JdbcVoucherRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static com.prgrms.vouchermanagement.voucher.VoucherType.PERCENT_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig
+class JdbcPortfolioRepositoryTest {
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        public DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .generateUniqueName(true)
+                    .setType(EmbeddedDatabaseType.H2)
+                    .addScripts("voucher_schema.sql", "customer_schema.sql", "wallet_schema.sql")
+                    .setScriptEncoding("UTF-8")
+                    .build();
+        }
+
+        @Bean
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+            return new NamedParameterJdbcTemplate(dataSource);
+        }
+
+        @Bean
+        JdbcVoucherRepository voucherRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+            return new JdbcVoucherRepository(jdbcTemplate);
+        }
+
+        @Bean
+        CustomerNamedJdbcRepository customerRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+            return new CustomerNamedJdbcRepository(jdbcTemplate);
+        }
+
+        @Bean
+        JdbcVoucherWalletRepository voucherWalletRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+            return new JdbcVoucherWalletRepository(jdbcTemplate);
+        }
+
+        @Bean
+        JdbcPortfolioRepository portfolioRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+            return new JdbcPortfolioRepository(jdbcTemplate);
+        }
+    }
+
+    @Autowired
+    JdbcPortfolioRepository portfolioRepository;
+
+    @Autowired
+    JdbcVoucherRepository voucherRepository;
+
+    @Autowired
+    CustomerNamedJdbcRepository customerRepository;
+
+    @Autowired
+    JdbcVoucherWalletRepository voucherWalletRepository;
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM voucher_wallet", Collections.emptyMap());
+        jdbcTemplate.update("DELETE FROM voucher", Collections.emptyMap());
+        jdbcTemplate.update("DELETE FROM customer", Collections.emptyMap());
+    }
+
+    @Test
+    @DisplayName("Customer와 wallet에 있는 Voucher 목록을 한 번에 조회한다.")
+    void findCustomerPortfolioTest() {
+        // given
+        Long customerId = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+        Long fixedVoucherId = voucherRepository.save(FIXED_DISCOUNT.constructor(1000, LocalDateTime.now()));
+        Long percentVoucherId = voucherRepository.save(PERCENT_DISCOUNT.constructor(50, LocalDateTime.now()));
+        voucherWalletRepository.save(Wallet.of(customerId, fixedVoucherId));
+        voucherWalletRepository.save(Wallet.of(customerId, percentVoucherId));
+
+        // when
+        Optional<CustomerPortfolio> portfolio = portfolioRepository.findCustomerPortfolio(customerId);
+
+        // then
+        assertThat(portfolio).isPresent();
+        assertThat(portfolio.get().getCustomer().getEmail()).isEqualTo("aaa@gmail.com");
+        assertThat(portfolio.get().getVouchers()).extracting(Voucher::getVoucherId).containsExactly(fixedVoucherId, percentVoucherId);
+        assertThat(portfolio.get().getVouchers()).extracting(Voucher::getAmount).containsExactly(1000L, 50L);
+    }
+
+    @Test
+    @DisplayName("wallet이 비어 있는 Customer는 Voucher 목록이 비어 있고, 등록되지 않은 Customer는 조회되지 않는다.")
+    void findCustomerPortfolioEmptyTest() {
+        // given
+        Long customerId = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+
+        // when
+        Optional<CustomerPortfolio> portfolio = portfolioRepository.findCustomerPortfolio(customerId);
+        Optional<CustomerPortfolio> notExistsPortfolio = portfolioRepository.findCustomerPortfolio(-1L);
+
+        // then
+        assertThat(portfolio).isPresent();
+        assertThat(portfolio.get().getVouchers()).isEmpty();
+        assertThat(notExistsPortfolio).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Voucher와 Voucher를 가진 Customer 목록을 한 번에 조회한다.")
+    void findVoucherHoldersTest() {
+        // given
+        Long voucherId = voucherRepository.save(FIXED_DISCOUNT.constructor(1000, LocalDateTime.now()));
+        Long emptyVoucherId = voucherRepository.save(FIXED_DISCOUNT.constructor(2000, LocalDateTime.now()));
+        Long customerId1 = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+        Long customerId2 = customerRepository.save(Customer.of("bbb", "bbb@gmail.com"));
+        voucherWalletRepository.save(Wallet.of(customerId1, voucherId));
+        voucherWalletRepository.save(Wallet.of(customerId2, voucherId));
+
+        // when
+        Optional<VoucherHolders> voucherHolders = portfolioRepository.findVoucherHolders(voucherId);
+        Optional<VoucherHolders> emptyVoucherHolders = portfolioRepository.findVoucherHolders(emptyVoucherId);
+        Optional<VoucherHolders> notExistsVoucherHolders = portfolioRepository.findVoucherHolders(-1L);
+
+        // then
+        assertThat(voucherHolders).isPresent();
+        assertThat(voucherHolders.get().getVoucher().getAmount()).isEqualTo(1000L);
+        assertThat(voucherHolders.get().getCustomers()).extracting(Customer::getCustomerId).containsExactly(customerId1, customerId2);
+        assertThat(emptyVoucherHolders).isPresent();
+        assertThat(emptyVoucherHolders.get().getCustomers()).isEmpty();
+        assertThat(notExistsVoucherHolders).isEmpty();
+    }
+}
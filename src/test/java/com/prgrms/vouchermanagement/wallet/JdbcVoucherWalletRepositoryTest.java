@@ -22,6 +22,7 @@ import javax.sql.DataSource;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
@@ -112,6 +113,37 @@ class JdbcVoucherWalletRepositoryTest {
         assertThat(findVoucher.get(0)).usingRecursiveComparison().ignoringFields("voucherId").isEqualTo(voucher);
     }
 
+    @Test
+    @DisplayName("여러 Customer의 Wallet에 voucher를 batch로 추가한다.")
+    void saveAllTest() {
+        // given
+        Long voucherId = voucherRepository.save(FIXED_DISCOUNT.constructor(50, LocalDateTime.now()));
+        Long customerId1 = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+        Long customerId2 = customerRepository.save(Customer.of("bbb", "bbb@gmail.com"));
+
+        // when
+        int savedCount = voucherWalletRepository.saveAll(List.of(Wallet.of(customerId1, voucherId), Wallet.of(customerId2, voucherId)));
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        assertThat(customerService.findCustomerByVoucher(voucherId)).extracting(Customer::getCustomerId)
+                .containsExactlyInAnyOrder(customerId1, customerId2);
+    }
+
+    @Test
+    @DisplayName("등록된 customer만 한 번에 조회한다.")
+    void findByIdsTest() {
+        // given
+        Long customerId1 = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+        Long customerId2 = customerRepository.save(Customer.of("bbb", "bbb@gmail.com"));
+
+        // when
+        List<Customer> customers = customerRepository.findByIds(List.of(customerId1, customerId2, -1L));
+
+        // then
+        assertThat(customers).extracting(Customer::getCustomerId).containsExactlyInAnyOrder(customerId1, customerId2);
+    }
+
     @Test
     @DisplayName("Customer가 가지고 있는 Voucher를 조회힌다.")
     void findVoucherByCustomerTest() {
@@ -139,6 +171,29 @@ class JdbcVoucherWalletRepositoryTest {
         assertThat(findVouchers).usingRecursiveFieldByFieldElementComparatorIgnoringFields("voucherId").contains(voucher1, voucher2, voucher3);
     }
 
+    @Test
+    @DisplayName("여러 Customer가 가지고 있는 Voucher를 customerId 별로 한 번에 조회한다.")
+    void findVoucherByCustomersTest() {
+        // given
+        Long voucherId1 = voucherRepository.save(FIXED_DISCOUNT.constructor(5000, LocalDateTime.now()));
+        Long voucherId2 = voucherRepository.save(PERCENT_DISCOUNT.constructor(10, LocalDateTime.now()));
+        Long customerId1 = customerRepository.save(Customer.of("aaa", "aaa@gmail.com"));
+        Long customerId2 = customerRepository.save(Customer.of("bbb", "bbb@gmail.com"));
+        Long customerId3 = customerRepository.save(Customer.of("ccc", "ccc@gmail.com"));
+
+        voucherWalletRepository.save(Wallet.of(customerId1, voucherId1));
+        voucherWalletRepository.save(Wallet.of(customerId1, voucherId2));
+        voucherWalletRepository.save(Wallet.of(customerId2, voucherId2));
+
+        // when
+        Map<Long, List<Voucher>> vouchersByCustomer = voucherRepository.findVoucherByCustomers(List.of(customerId1, customerId2, customerId3));
+
+        // then
+        assertThat(vouchersByCustomer).containsOnlyKeys(customerId1, customerId2);
+        assertThat(vouchersByCustomer.get(customerId1)).extracting(Voucher::getVoucherId).containsExactlyInAnyOrder(voucherId1, voucherId2);
+        assertThat(vouchersByCustomer.get(customerId2)).extracting(Voucher::getVoucherId).containsExactly(voucherId2);
+    }
+
     @Test
     @DisplayName("Voucher를 가지고 있는 Customer를 조회한다.")
     void findCustomerByVoucherTest() {
@@ -1,7 +1,9 @@
 package com.prgrms.vouchermanagement.wallet;
 
+import com.prgrms.vouchermanagement.customer.BlackListRepository;
 import com.prgrms.vouchermanagement.customer.Customer;
 import com.prgrms.vouchermanagement.customer.CustomerService;
+import com.prgrms.vouchermanagement.discount.DiscountEngine;
 import com.prgrms.vouchermanagement.voucher.Voucher;
 import com.prgrms.vouchermanagement.voucher.service.VoucherService;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +21,8 @@ import static com.prgrms.vouchermanagement.voucher.VoucherType.PERCENT_DISCOUNT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,14 +37,22 @@ class VoucherWalletServiceTest {
     @Mock
     CustomerService customerService;
 
+    @Mock
+    BlackListRepository blackListRepository;
+
+    @Mock
+    DiscountEngine discountEngine;
+
     @Test
     @DisplayName("Customer 지갑에 Voucher를 추가한다.")
     void addVoucherToWalletTest() {
         // given
         Long sampleCustomerId = 1L;
         Long sampleVoucherId = 2L;
-        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService);
-        when(customerService.isRegisteredCustomer(anyLong())).thenReturn(true);
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
+        Customer customer = Customer.of(sampleCustomerId, "aaa", "aaa@gmail.com", null, LocalDateTime.now());
+        when(customerService.findById(sampleCustomerId)).thenReturn(Optional.of(customer));
+        when(blackListRepository.isBlackListed(customer)).thenReturn(false);
         when(voucherService.isRegisteredVoucher(anyLong())).thenReturn(true);
 
         // when
@@ -48,16 +60,40 @@ class VoucherWalletServiceTest {
 
         // then
         verify(voucherWalletRepository).save(any());
+        verify(discountEngine).invalidate(sampleCustomerId);
+    }
+
+    @Test
+    @DisplayName("black list에 있는 Customer 지갑에 Voucher를 추가하면 예외가 발생한다.")
+    void addVoucherWalletBlackListedCustomerTest() {
+        // given
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
+        Long voucherId = 1L;
+        Long customerId = 2L;
+        Customer customer = Customer.of(customerId, "blacklisted", "blacklisted@gmail.com", null, LocalDateTime.now());
+        when(voucherService.isRegisteredVoucher(voucherId)).thenReturn(true);
+        when(customerService.findById(customerId)).thenReturn(Optional.of(customer));
+        when(blackListRepository.isBlackListed(customer)).thenReturn(true);
+
+        // then
+        assertThatThrownBy(() -> {
+            // when
+            voucherWalletService.addVoucherToWallet(customerId, voucherId);
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("black list에 등록된 Customer입니다.");
+
+        verify(voucherWalletRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("지갑에 Voucher를 추가하는데 존재하지 않는 customerId를 전달하면 예외가 발생한다.")
     void addVoucherWalletNotExistsCustomerTest() {
         // given
-        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService);
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
         Long voucherId = 1L;
         Long wrongCustomerId = -1L;
-        when(customerService.isRegisteredCustomer(wrongCustomerId)).thenReturn(false);
+        when(customerService.findById(wrongCustomerId)).thenReturn(Optional.empty());
         when(voucherService.isRegisteredVoucher(voucherId)).thenReturn(true);
 
         // then
@@ -75,7 +111,7 @@ class VoucherWalletServiceTest {
     @DisplayName("지갑에 Voucher를 추가하는데 존재하지 않는 voucherId를 전달하면 예외가 발생한다.")
     void addVoucherWalletNotExistsVoucherTest() {
         // given
-        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService);
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
         Long wrongVoucherId = -1L;
         Long customerId = 1L;
         when(voucherService.isRegisteredVoucher(wrongVoucherId)).thenReturn(false);
@@ -91,12 +127,76 @@ class VoucherWalletServiceTest {
         verify(voucherWalletRepository, times(0)).save(any());
     }
 
+    @Test
+    @DisplayName("하나의 Voucher를 여러 Customer 지갑에 추가하고, 등록되지 않았거나 중복된 customerId는 실패로 반환한다.")
+    void addVoucherToWalletsTest() {
+        // given
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
+        Long voucherId = 1L;
+        when(voucherService.isRegisteredVoucher(voucherId)).thenReturn(true);
+        when(customerService.findRegisteredCustomers(anyCollection())).thenReturn(List.of(
+                Customer.of(10L, "aaa", "aaa@gmail.com", null, LocalDateTime.now()),
+                Customer.of(20L, "bbb", "bbb@gmail.com", null, LocalDateTime.now())));
+        when(voucherWalletRepository.saveAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        BulkWalletResult result = voucherWalletService.addVoucherToWallets(voucherId, List.of(10L, 20L, 30L, 10L));
+
+        // then
+        assertThat(result.getIssuedCount()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(BulkWalletResult.Failure::getCustomerId).containsExactlyInAnyOrder(30L, 10L);
+        verify(customerService, times(1)).findRegisteredCustomers(anyCollection());
+        verify(customerService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 Customer 지갑에 Voucher를 추가할 때 black list에 있는 Customer는 실패로 반환한다.")
+    void addVoucherToWalletsBlackListTest() {
+        // given
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
+        Long voucherId = 1L;
+        Customer customer = Customer.of(10L, "aaa", "aaa@gmail.com", null, LocalDateTime.now());
+        Customer blackListedCustomer = Customer.of(20L, "bbb", "bbb@gmail.com", null, LocalDateTime.now());
+        when(voucherService.isRegisteredVoucher(voucherId)).thenReturn(true);
+        when(customerService.findRegisteredCustomers(anyCollection())).thenReturn(List.of(customer, blackListedCustomer));
+        when(blackListRepository.isBlackListed(customer)).thenReturn(false);
+        when(blackListRepository.isBlackListed(blackListedCustomer)).thenReturn(true);
+        when(voucherWalletRepository.saveAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        BulkWalletResult result = voucherWalletService.addVoucherToWallets(voucherId, List.of(10L, 20L));
+
+        // then
+        assertThat(result.getIssuedCount()).isEqualTo(1);
+        assertThat(result.getFailures()).extracting(BulkWalletResult.Failure::getCustomerId).containsExactly(20L);
+        assertThat(result.getFailures()).extracting(BulkWalletResult.Failure::getReason).containsExactly("black list에 등록된 Customer입니다.");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 Voucher를 여러 Customer 지갑에 추가하면 예외가 발생한다.")
+    void addVoucherToWalletsNotExistsVoucherTest() {
+        // given
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
+        Long wrongVoucherId = -1L;
+        when(voucherService.isRegisteredVoucher(wrongVoucherId)).thenReturn(false);
+
+        // then
+        assertThatThrownBy(() -> {
+            // when
+            voucherWalletService.addVoucherToWallets(wrongVoucherId, List.of(1L, 2L));
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("등록되지 않은 Voucher입니다.");
+
+        verify(voucherWalletRepository, never()).saveAll(any());
+    }
+
     // TODO
     @Test
     @DisplayName("wallet에 있는 voucher를 삭제한다.")
     void removeVoucherInWalletTest() {
         // given
-        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService);
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
         Long walletId = 1234L;
         Long customerId = 5678L;
         Long voucherId = 4756L;
@@ -108,13 +208,14 @@ class VoucherWalletServiceTest {
 
         // then
         verify(voucherWalletRepository).removeWallet(walletId);
+        verify(discountEngine).invalidate(customerId);
     }
 
     @Test
     @DisplayName("존재하지 않는 walletId로 wallet에 있는 voucher를 삭제하려하면 예외가 발생한다.")
     void removeVoucherInWalletWrongWalletIdTest() {
         // given
-        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService);
+        VoucherWalletService voucherWalletService = new VoucherWalletService(voucherWalletRepository, voucherService, customerService, blackListRepository, discountEngine);
         Long wrongWalletId = -1L;
         when(voucherWalletRepository.findWallet(wrongWalletId)).thenReturn(Optional.empty());
 
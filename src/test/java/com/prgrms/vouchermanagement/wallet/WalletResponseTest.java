@@ -0,0 +1,63 @@
+package com.prgrms.vouchermanagement.wallet;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prgrms.vouchermanagement.customer.CustomerResponse;
+import com.prgrms.vouchermanagement.voucher.controller.VoucherResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.prgrms.vouchermanagement.voucher.VoucherType.FIXED_DISCOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WalletResponseTest {
+
+    @Test
+    @DisplayName("Wallet의 voucherId와 customerId는 WalletResponse의 같은 필드로 옮겨진다.")
+    void fromTest() {
+        // given
+        Wallet wallet = Wallet.of(1L, 2L, 3L, LocalDateTime.of(2022, 5, 1, 10, 0));
+
+        // when
+        WalletResponse walletResponse = WalletResponse.from(wallet);
+
+        // then
+        assertThat(walletResponse.getCustomerId()).isEqualTo(2L);
+        assertThat(walletResponse.getVoucherId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("직접 작성한 serializer는 reflection 기반 Jackson과 같은 JSON을 쓴다.")
+    void serializeTest() throws Exception {
+        // given
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper reflectionObjectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .build();
+        LocalDateTime createdAt = LocalDateTime.of(2022, 5, 1, 10, 0, 0, 123_456_000);
+        List<Object> responses = List.of(
+                new WalletResponse(1L, 2L, 3L, createdAt),
+                new WalletResponse(null, null, null, null),
+                new VoucherResponse(1L, 1000, FIXED_DISCOUNT, createdAt),
+                new VoucherResponse(null, 0, null, null),
+                new CustomerResponse(1L, "\"aaa\"", "aaa@gmail.com", createdAt),
+                new CustomerResponse(null, null, null, null));
+
+        // when
+        String json = objectMapper.writeValueAsString(responses);
+
+        // then
+        assertThat(json).isEqualTo(reflectionObjectMapper.writeValueAsString(responses));
+    }
+}
@@ -4,4 +4,5 @@ create table voucher(
     voucher_type varchar(20) not null,
     amount       int         not null,
     created_at   datetime default now()
-);
\ No newline at end of file
+);
+create index voucher_type_created_at_idx on voucher (voucher_type, created_at);
\ No newline at end of file